@@ -0,0 +1,81 @@
+package com.mychoreapp.chore_system_backend.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the entity graphs the controllers return: a user with their tribe, a chore with its tribe
+ * and assignee, and a list of completions with their chores and users, as in a tribe's completion history.
+ * The mapper is built the way Spring Boot builds the application's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntitySerializationBenchmark {
+
+	@Param({"10", "100"})
+	private int completions;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private User user;
+	private Chore chore;
+	private List<ChoreCompletion> history;
+
+	@Setup
+	public void createGraph() {
+		final Tribe tribe = new Tribe("The Tribe");
+		tribe.setId(1L);
+		user = new User("alice", "password");
+		user.setId(1L);
+		user.setTribe(tribe);
+		user.setPoints(1250);
+		chore = new Chore("Dishes", "Wash, dry and put away the dishes", 5, LocalDate.of(2025, 1, 15), tribe);
+		chore.setId(1L);
+		chore.setRecurring(true);
+		chore.setRecurrencePattern("FREQ=WEEKLY;BYDAY=MO,TH");
+		chore.setRecurrenceStart(LocalDate.of(2025, 1, 6));
+		chore.setAssignedTo(user);
+		history = new ArrayList<>(completions);
+		for (long i = 0; i < completions; i++) {
+			final ChoreCompletion completion = new ChoreCompletion(chore, user, 5, LocalDateTime.of(2025, 1, 1, 8, 0).plusHours(i));
+			completion.setId(i + 1);
+			history.add(completion);
+		}
+	}
+
+	@Benchmark
+	public byte[] user() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(user);
+	}
+
+	@Benchmark
+	public byte[] chore() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(chore);
+	}
+
+	@Benchmark
+	public byte[] completionHistory() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(history);
+	}
+}
@@ -0,0 +1,35 @@
+package com.mychoreapp.chore_system_backend.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating a tribe, which generates its join code (Tribe.generateUniqueJoinCode, from a random UUID),
+ * on one thread and on every core at once, since random UUIDs share a single SecureRandom.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TribeBenchmark {
+
+	@Benchmark
+	public Tribe newTribe() {
+		return new Tribe("The Tribe");
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Tribe newTribeOnAllCores() {
+		return new Tribe("The Tribe");
+	}
+}
@@ -0,0 +1,82 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.LeaderboardEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leaderboard operations over a tribe of N users: the in-memory board behind LeaderboardService,
+ * against sorting every user's total per request, which is what a leaderboard without the board costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankedScoreBoardBenchmark {
+
+	private static final int TOP = 10;
+	private static final Comparator<LeaderboardEntry> BY_POINTS = Comparator.comparingInt(LeaderboardEntry::points).reversed()
+			.thenComparing(LeaderboardEntry::userId);
+
+	@Param({"100", "1000", "10000"})
+	private int users;
+
+	private final SplittableRandom random = new SplittableRandom(42);
+	private RankedScoreBoard board;
+	private List<LeaderboardEntry> totals;
+	private int[] points;
+
+	@Setup
+	public void fill() {
+		board = new RankedScoreBoard();
+		totals = new ArrayList<>(users);
+		points = new int[users];
+		for (int i = 0; i < users; i++) {
+			points[i] = random.nextInt(10_000);
+			board.update((long) i, "user-" + i, points[i]);
+			totals.add(new LeaderboardEntry((long) i, "user-" + i, points[i], 0));
+		}
+	}
+
+	@Benchmark
+	public void awardPoints() {
+		final int user = random.nextInt(users);
+		points[user] += 5;
+		board.updateIfHigher((long) user, "user-" + user, points[user]);
+	}
+
+	@Benchmark
+	public List<LeaderboardEntry> topTen() {
+		return board.top(TOP);
+	}
+
+	@Benchmark
+	public Optional<LeaderboardEntry> rankOfUser() {
+		return board.entryFor((long) random.nextInt(users));
+	}
+
+	@Benchmark
+	public List<LeaderboardEntry> sortAllUsers() {
+		final List<LeaderboardEntry> sorted = new ArrayList<>(totals);
+		sorted.sort(BY_POINTS);
+		return sorted.subList(0, Math.min(TOP, sorted.size()));
+	}
+}
@@ -0,0 +1,52 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computing the next due date of a recurring chore, as RecurringChoreService does when it advances a chore
+ * (this replaced ChoreCompletionService.calculateNextDueDate), for the shorthand patterns and a few RRULEs.
+ * The series started two years before the current due date, so INTERVAL and ordinal weekdays have to be counted from afar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceRuleBenchmark {
+
+	@Param({"DAILY", "WEEKLY", "MONTHLY", "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH", "FREQ=MONTHLY;BYDAY=-1FR", "FREQ=DAILY;COUNT=1000"})
+	private String pattern;
+
+	private final LocalDate seriesStart = LocalDate.of(2023, 1, 2);
+	private final LocalDate dueDate = LocalDate.of(2025, 1, 6);
+
+	@Setup
+	public void compile() {
+		RecurrenceRule.compile(pattern); // Warm the rule cache, as in a running server
+	}
+
+	@Benchmark
+	public LocalDate nextDueDate() {
+		return RecurrenceRule.compile(pattern).nextAfter(seriesStart, dueDate);
+	}
+
+	@Benchmark
+	public List<LocalDate> occurrencesInAYear() {
+		return RecurrenceRule.compile(pattern).occurrencesBetween(seriesStart, dueDate, dueDate.plusYears(1));
+	}
+}
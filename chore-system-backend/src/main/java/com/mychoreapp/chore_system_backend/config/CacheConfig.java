@@ -0,0 +1,23 @@
+package com.mychoreapp.chore_system_backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's cache abstraction and names the caches used for Tribe and User lookups.
+ * The caches are Caffeine caches configured in application.properties (spring.cache.*):
+ * bounded in size, expired after a while as a safety net, and recording hit/miss/eviction statistics
+ * that are published through the actuator metrics endpoint as cache.gets, cache.puts and cache.evictions.
+ * Entries are evicted explicitly by EntityCacheService whenever the cached data changes.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TRIBES_BY_ID = "tribesById";
+    public static final String TRIBES_BY_JOIN_CODE = "tribesByJoinCode";
+    public static final String TRIBES_BY_NAME = "tribesByName";
+    public static final String USERS_BY_ID = "usersById";
+    public static final String USERS_BY_USERNAME = "usersByUsername";
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+}
@@ -0,0 +1,53 @@
+package com.mychoreapp.chore_system_backend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Names the application's metrics and sets up their recording; all metrics are published through the actuator
+ * endpoints, in Prometheus format at /actuator/prometheus.
+ * Every public method of the services annotated with {@code @Timed(MetricsConfig.SERVICE_INVOCATIONS)} is timed,
+ * tagged with its class, method and exception (if any). Repository calls are timed by Spring Boot as
+ * spring.data.repository.invocations, and cache hits and misses are published as cache.gets (see CacheConfig).
+ * The SQL statements, entity loads, flushes and JDBC time of each request are recorded per controller method.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_INVOCATIONS = "service.invocations";
+    public static final String CHORE_COMPLETIONS = "chores.completions"; // Tagged with the tribe
+    public static final String RECURRING_INSTANCES_SPAWNED = "chores.recurring.instances.spawned"; // Not "created", which Prometheus reserves
+    public static final String TRIBE_TAG = "tribe";
+    public static final String ACTIVITY_SUBSCRIBERS = "tribe.activity.subscribers"; // Open activity streams (see TribeActivityBroadcaster)
+    // Per-request Hibernate statistics, tagged with the controller method (see QueryStatisticsInterceptor)
+    public static final String REQUEST_STATEMENTS = "request.statements";
+    public static final String REQUEST_ENTITY_LOADS = "request.entity.loads";
+    public static final String REQUEST_FLUSHES = "request.flushes";
+    public static final String REQUEST_JDBC_TIME = "request.jdbc.time";
+    public static final String HANDLER_TAG = "handler";
+
+    /**
+     * Records the timers of methods and classes annotated with {@code @Timed}.
+     * @param meterRegistry The registry the timers are recorded in.
+     * @return The aspect.
+     */
+    @Bean
+    public TimedAspect timedAspect(final MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Caps the number of tribes that get their own completion counter, as every tag value is a separate time series.
+     * Completions of tribes beyond the cap are not counted per tribe; service.invocations still counts them all.
+     * @param maxTribes The maximum number of distinct tribe tags.
+     * @return The filter.
+     */
+    @Bean
+    public MeterFilter tribeTagLimit(@Value("${metrics.completions.max-tribes:1000}") final int maxTribes) {
+        return MeterFilter.maximumAllowableTags(CHORE_COMPLETIONS, TRIBE_TAG, maxTribes, MeterFilter.deny());
+    }
+}
@@ -0,0 +1,52 @@
+package com.mychoreapp.chore_system_backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Sets up the per-request Hibernate statistics: registers the Hibernate hooks that collect them
+ * (see RequestQueryStatistics) and the interceptor that measures each controller method and enforces
+ * its statement budget (see QueryStatisticsInterceptor and QueryBudget).
+ */
+@Configuration
+public class QueryStatisticsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnExceeded;
+
+    /**
+     * Constructor for dependency injection.
+     * @param meterRegistry The registry the statistics are recorded in.
+     * @param failOnExceeded Whether requests over their statement budget fail instead of being logged.
+     */
+    @Autowired
+    public QueryStatisticsConfig(final MeterRegistry meterRegistry,
+                                 @Value("${query-budget.fail-on-exceeded:false}") final boolean failOnExceeded) {
+        this.meterRegistry = meterRegistry;
+        this.failOnExceeded = failOnExceeded;
+    }
+
+    /**
+     * Registers the session event listener and the interceptor that collect the statistics.
+     * @return The customizer of the Hibernate properties.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer requestQueryStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, RequestQueryStatistics.SessionListener.class.getName());
+            properties.put(AvailableSettings.INTERCEPTOR, new RequestQueryStatistics.LoadInterceptor());
+        };
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatisticsInterceptor(meterRegistry, failOnExceeded));
+    }
+}
@@ -0,0 +1,44 @@
+package com.mychoreapp.chore_system_backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds the request's Hibernate statistics (see RequestQueryStatistics) to responses with a body, as X-Query-* headers,
+ * for looking at an endpoint's database work from the browser or curl during development.
+ * The headers are written before the body, so they leave out statements issued while serializing it (lazy loading);
+ * the metrics include those. Only enabled with query-statistics.response-headers=true.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "query-statistics.response-headers", havingValue = "true")
+public class QueryStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(final MethodParameter returnType, final Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(final Object body, final MethodParameter returnType, final MediaType selectedContentType,
+                                  final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  final ServerHttpRequest request, final ServerHttpResponse response) {
+        final RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        if (statistics != null) {
+            final HttpHeaders headers = response.getHeaders();
+            headers.set("X-Query-Statements", String.valueOf(statistics.getStatements()));
+            headers.set("X-Query-Entity-Loads", String.valueOf(statistics.getEntityLoads()));
+            headers.set("X-Query-Flushes", String.valueOf(statistics.getFlushes()));
+            headers.set("X-Query-Jdbc-Time-Ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(statistics.getJdbcNanos())));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,87 @@
+package com.mychoreapp.chore_system_backend.config;
+
+import com.mychoreapp.chore_system_backend.controller.QueryBudget;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the Hibernate statistics of every request handled by a controller method (see RequestQueryStatistics)
+ * and records them per controller method as the metrics request.statements, request.entity.loads,
+ * request.flushes and request.jdbc.time. Requests that issue more statements than the
+ * {@link QueryBudget} of their method allows are logged, or fail if query-budget.fail-on-exceeded is set.
+ * Asynchronous requests (streamed exports) are not measured, as their work continues on another thread.
+ */
+public class QueryStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryStatisticsInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnExceeded;
+
+    /**
+     * Creates the interceptor.
+     * @param meterRegistry The registry the statistics are recorded in.
+     * @param failOnExceeded Whether a statement over an endpoint's budget fails the request instead of being logged.
+     */
+    public QueryStatisticsInterceptor(final MeterRegistry meterRegistry, final boolean failOnExceeded) {
+        this.meterRegistry = meterRegistry;
+        this.failOnExceeded = failOnExceeded;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            final QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            RequestQueryStatistics.begin(handlerName(handlerMethod), budget == null ? -1 : budget.statements(), failOnExceeded);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request, final HttpServletResponse response,
+                                               final Object handler) {
+        RequestQueryStatistics.end(); // The rest of the request runs on another thread
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                final Exception ex) {
+        final RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        if (statistics == null) {
+            return;
+        }
+        RequestQueryStatistics.end();
+        final String handlerName = handlerName((HandlerMethod) handler);
+        DistributionSummary.builder(MetricsConfig.REQUEST_STATEMENTS).tag(MetricsConfig.HANDLER_TAG, handlerName)
+                .register(meterRegistry).record(statistics.getStatements());
+        DistributionSummary.builder(MetricsConfig.REQUEST_ENTITY_LOADS).tag(MetricsConfig.HANDLER_TAG, handlerName)
+                .register(meterRegistry).record(statistics.getEntityLoads());
+        DistributionSummary.builder(MetricsConfig.REQUEST_FLUSHES).tag(MetricsConfig.HANDLER_TAG, handlerName)
+                .register(meterRegistry).record(statistics.getFlushes());
+        Timer.builder(MetricsConfig.REQUEST_JDBC_TIME).tag(MetricsConfig.HANDLER_TAG, handlerName)
+                .register(meterRegistry).record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        if (statistics.isOverBudget()) {
+            log.warn("{} {} ({}) issued {} SQL statements, over its budget of {}", request.getMethod(), request.getRequestURI(),
+                    handlerName, statistics.getStatements(), statistics.getStatementBudget());
+        }
+    }
+
+    /**
+     * Helper method to name a controller method for metrics and logs.
+     * @param handlerMethod The controller method.
+     * @return The name, e.g. ChoreController.getChoresByTribe.
+     */
+    private static String handlerName(final HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
@@ -0,0 +1,160 @@
+package com.mychoreapp.chore_system_backend.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.type.Type;
+
+/**
+ * The Hibernate work done while handling the current request: statements prepared, entities loaded,
+ * flushes, and time spent executing statements in JDBC.
+ * Hibernate's own Statistics are per SessionFactory and so mix all concurrent requests; these are per thread,
+ * collected from every session the request's thread uses by the Hibernate hooks below (registered in QueryStatisticsConfig).
+ * Collection is started and ended by QueryStatisticsInterceptor; outside a request (e.g. in scheduled tasks) nothing is collected.
+ */
+public final class RequestQueryStatistics {
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final String handler;
+    private final int statementBudget; // -1 for no budget
+    private final boolean failOnExceeded;
+    private int statements;
+    private int entityLoads;
+    private int flushes;
+    private long jdbcNanos;
+
+    private RequestQueryStatistics(final String handler, final int statementBudget, final boolean failOnExceeded) {
+        this.handler = handler;
+        this.statementBudget = statementBudget;
+        this.failOnExceeded = failOnExceeded;
+    }
+
+    /**
+     * Starts collecting statistics on the current thread.
+     * @param handler The name of the controller method handling the request, for error messages.
+     * @param statementBudget The maximum number of statements, or -1 for no budget.
+     * @param failOnExceeded Whether a statement over the budget fails with an IllegalStateException.
+     * @return The new statistics.
+     */
+    static RequestQueryStatistics begin(final String handler, final int statementBudget, final boolean failOnExceeded) {
+        final RequestQueryStatistics statistics = new RequestQueryStatistics(handler, statementBudget, failOnExceeded);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * @return The statistics being collected on the current thread, or null if there are none.
+     */
+    static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops collecting statistics on the current thread.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getFlushes() {
+        return flushes;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    /**
+     * @return Whether more statements were prepared than the budget allows.
+     */
+    public boolean isOverBudget() {
+        return statementBudget >= 0 && statements > statementBudget;
+    }
+
+    private void statementPrepared() {
+        statements++;
+        if (failOnExceeded && statements == statementBudget + 1) {
+            throw new IllegalStateException(handler + " exceeded its budget of " + statementBudget + " SQL statements");
+        }
+    }
+
+    /**
+     * Counts the statements, flushes and JDBC time of one session.
+     * Hibernate creates an instance for every session (hibernate.session.events.auto), so the timings are not shared.
+     */
+    public static class SessionListener implements SessionEventListener {
+
+        private long executeStart;
+
+        @Override
+        public void jdbcPrepareStatementStart() {
+            final RequestQueryStatistics statistics = CURRENT.get();
+            if (statistics != null) {
+                statistics.statementPrepared();
+            }
+        }
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            executeStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            addJdbcTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            executeStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            addJdbcTime();
+        }
+
+        @Override
+        public void flushStart() {
+            final RequestQueryStatistics statistics = CURRENT.get();
+            if (statistics != null) {
+                statistics.flushes++;
+            }
+        }
+
+        private void addJdbcTime() {
+            final RequestQueryStatistics statistics = CURRENT.get();
+            if (statistics != null) {
+                statistics.jdbcNanos += System.nanoTime() - executeStart;
+            }
+        }
+    }
+
+    /**
+     * Counts the entities loaded from JDBC results (not those found in the persistence context).
+     */
+    public static class LoadInterceptor implements Interceptor {
+
+        @Override
+        public boolean onLoad(final Object entity, final Object id, final Object[] state, final String[] propertyNames,
+                              final Type[] types) {
+            final RequestQueryStatistics statistics = CURRENT.get();
+            if (statistics != null) {
+                statistics.entityLoads++;
+            }
+            return false; // The state was not modified
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mychoreapp.chore_system_backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logback filter that samples the slow query log (org.hibernate.SQL_SLOW, see hibernate.log_slow_query in
+ * application.properties), so that a database slowdown, which makes every query slow at once, does not flood the log.
+ * The first maxPerSecond slow queries of each second are logged; the rest are only counted, and the count is
+ * logged with the next slow query that is let through. Level checks (e.g. isInfoEnabled(), which reach the filter
+ * without a message) are let through without being counted. Other loggers are not affected.
+ * Configured in logback-spring.xml.
+ */
+public class SlowQueryLogSampler extends TurboFilter {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(SlowQueryLogSampler.class);
+
+    private String loggerName = "org.hibernate.SQL_SLOW";
+    private int maxPerSecond = 5;
+
+    private long currentSecond; // The second (of System.nanoTime) the counts below are for
+    private int logged;
+    private long suppressed; // Not reset with the second, until it has been reported
+
+    @Override
+    public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+                              final Object[] params, final Throwable t) {
+        if (format == null || !loggerName.equals(logger.getName())) {
+            return FilterReply.NEUTRAL; // Without a message this is a level check, not a slow query being logged
+        }
+        final long reportSuppressed;
+        synchronized (this) {
+            final long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+            if (second != currentSecond) {
+                currentSecond = second;
+                logged = 0;
+            }
+            if (logged >= maxPerSecond) {
+                suppressed++;
+                return FilterReply.DENY;
+            }
+            logged++;
+            reportSuppressed = suppressed;
+            suppressed = 0;
+        }
+        if (reportSuppressed > 0) {
+            log.info("{} slow queries were not logged (more than {} per second)", reportSuppressed, maxPerSecond);
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * @param loggerName The name of the logger whose events are sampled.
+     */
+    public void setLoggerName(final String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    /**
+     * @param maxPerSecond The maximum number of events logged per second.
+     */
+    public void setMaxPerSecond(final int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+}
@@ -1,10 +1,20 @@
 package com.mychoreapp.chore_system_backend.controller; 
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mychoreapp.chore_system_backend.dto.ChoreCompletionRequest;
+import com.mychoreapp.chore_system_backend.dto.ChoreCompletionSummary;
+import com.mychoreapp.chore_system_backend.dto.CursorPage;
 import com.mychoreapp.chore_system_backend.model.ChoreCompletion;
 import com.mychoreapp.chore_system_backend.service.ChoreCompletionService;
+import com.mychoreapp.chore_system_backend.service.DuplicateRequestException;
+import com.mychoreapp.chore_system_backend.service.IdempotencyService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,9 +22,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -28,34 +43,72 @@ import java.util.Optional;
 @CrossOrigin(origins = "http://localhost:3000")
 public class ChoreCompletionController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed"; // Set on responses replayed for a retried request
+
+    private static final int MAX_BATCH_SIZE = 500; // Upper bound on the number of completions accepted in one batch request
+
+    private static final LocalDateTime EXPORT_MIN_DATE = LocalDateTime.of(1, 1, 1, 0, 0); // Lower bound of an export without a start date
+    private static final LocalDateTime EXPORT_MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59); // Upper bound of an export without an end date
+
     private final ChoreCompletionService choreCompletionService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter exportWriter; // Writes export lines without flushing the response after every line
 
     /**
      * Constructor for dependency injection.
-     * Spring automatically injects an instance of ChoreCompletionService.
+     * Spring automatically injects instances of the services and the application's ObjectMapper.
      * @param choreCompletionService The service to be injected.
+     * @param idempotencyService The service the idempotency keys of completion requests are looked up with.
+     * @param objectMapper The JSON mapper used to write exports, configured like the one used for regular responses.
      */
     @Autowired
-    public ChoreCompletionController(final ChoreCompletionService choreCompletionService) {
+    public ChoreCompletionController(final ChoreCompletionService choreCompletionService,
+                                     final IdempotencyService idempotencyService,
+                                     final ObjectMapper objectMapper) {
         this.choreCompletionService = choreCompletionService;
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+        this.exportWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
      * Records a chore completion for a specific chore by a specific user.
-     * This endpoint will trigger the point award and recurring chore logic.
+     * This endpoint awards the chore's points; a recurring chore is deactivated, so it can be completed once per cycle,
+     * and advanced to its next cycle shortly afterwards.
+     * A client that may retry the request (e.g. after a timeout) sends an Idempotency-Key header, unique per completion
+     * (such as a UUID). A request with the key of an earlier one, for the same chore and user, records nothing
+     * and is answered with the earlier completion and an Idempotent-Replayed: true header. Keys are kept for a day.
      * Endpoint: POST /api/chore-completions/{choreId}/complete-by/{userId}
      * @param choreId The ID of the chore that was completed.
      * @param userId The ID of the user who completed the chore.
+     * @param idempotencyKey The request's idempotency key (optional).
      * @return ResponseEntity with the created ChoreCompletion record and HTTP status 201 (Created),
-     * or 400 (Bad Request) if validation fails (e.g., chore/user not found, user not in chore's tribe).
+     * or 400 (Bad Request) if validation fails (e.g., user not in chore's tribe, recurring chore already completed
+     * in its current cycle, idempotency key used for another request),
+     * or 404 (Not Found) if the chore or user, or the completion of a replayed request, is not found,
+     * or 409 (Conflict) if a concurrent request with the same key was recorded but its completion cannot be looked up.
      */
     @PostMapping("/{choreId}/complete-by/{userId}")
+    // Key lookup (unless cached), chore, user, completion insert, key insert, recurring chore deactivation, points update,
+    // outbox event insert, and an ID block each for the completion and the outbox event (every 50 inserts)
+    @QueryBudget(statements = 10)
     public ResponseEntity<ChoreCompletion> recordChoreCompletion(
             @PathVariable final Long choreId,
-            @PathVariable final Long userId) {
+            @PathVariable final Long userId,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey) {
         try {
-            final ChoreCompletion newCompletion = choreCompletionService.recordChoreCompletion(choreId, userId);
+            if (idempotencyKey != null) {
+                final Optional<Long> originalId = idempotencyService.findCompletionId(idempotencyKey, choreId, userId);
+                if (originalId.isPresent()) {
+                    return replayCompletion(originalId.get()); // A retry: nothing is written
+                }
+            }
+            final ChoreCompletion newCompletion = choreCompletionService.recordChoreCompletion(choreId, userId, idempotencyKey);
             return new ResponseEntity<>(newCompletion, HttpStatus.CREATED); // Return 201 Created on success
+        } catch (DuplicateRequestException e) {
+            return replayConcurrentCompletion(choreId, userId, idempotencyKey);
         } catch (IllegalArgumentException e) {
             // Catch validation errors from the service layer
             // Distinguish between 400 (bad request data) and 404 (resource not found)
@@ -66,6 +119,33 @@ public class ChoreCompletionController {
         }
     }
 
+    /**
+     * Records a batch of chore completions in a single transaction, e.g. when an offline client syncs.
+     * The batch is all-or-nothing: if any completion is invalid, nothing is recorded.
+     * Endpoint: POST /api/chore-completions/batch
+     * Request body: [{"choreId": 1, "userId": 2, "completionDate": "2025-01-01T10:00:00"}, ...]
+     * (completionDate is optional and defaults to the current time)
+     * @param requests The completions to record (at most 500).
+     * @return ResponseEntity with the created ChoreCompletion records and HTTP status 201 (Created),
+     * or 400 (Bad Request) if the batch is empty or too large or a completion is invalid,
+     * or 404 (Not Found) if a chore or user does not exist.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ChoreCompletion>> recordChoreCompletions(@RequestBody final List<ChoreCompletionRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            final List<ChoreCompletion> newCompletions = choreCompletionService.recordChoreCompletions(requests);
+            return new ResponseEntity<>(newCompletions, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage().contains("not found")) {
+                return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
+            }
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Retrieves a chore completion record by its ID.
      * Endpoint: GET /api/chore-completions/{id}
@@ -74,6 +154,7 @@ public class ChoreCompletionController {
      * or 404 (Not Found) if record does not exist.
      */
     @GetMapping("/{id}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<ChoreCompletion> getChoreCompletionById(@PathVariable final Long id) {
         final Optional<ChoreCompletion> completion = choreCompletionService.getChoreCompletionById(id);
         return completion.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
@@ -84,11 +165,12 @@ public class ChoreCompletionController {
      * Retrieves all chore completion records for a specific user.
      * Endpoint: GET /api/chore-completions/user/{userId}
      * @param userId The ID of the user.
-     * @return ResponseEntity with a list of ChoreCompletion records completed by the specified user.
+     * @return ResponseEntity with a list of ChoreCompletionSummary records completed by the specified user.
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<ChoreCompletion>> getChoreCompletionsByUser(@PathVariable final Long userId) {
-        final List<ChoreCompletion> completions = choreCompletionService.getChoreCompletionsByUser(userId);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<ChoreCompletionSummary>> getChoreCompletionsByUser(@PathVariable final Long userId) {
+        final List<ChoreCompletionSummary> completions = choreCompletionService.getChoreCompletionsByUser(userId);
         return new ResponseEntity<>(completions, HttpStatus.OK);
     }
 
@@ -96,11 +178,12 @@ public class ChoreCompletionController {
      * Retrieves all chore completion records for a specific chore.
      * Endpoint: GET /api/chore-completions/chore/{choreId}
      * @param choreId The ID of the chore.
-     * @return ResponseEntity with a list of ChoreCompletion records for the specified chore.
+     * @return ResponseEntity with a list of ChoreCompletionSummary records for the specified chore.
      */
     @GetMapping("/chore/{choreId}")
-    public ResponseEntity<List<ChoreCompletion>> getChoreCompletionsByChore(@PathVariable final Long choreId) {
-        final List<ChoreCompletion> completions = choreCompletionService.getChoreCompletionsByChore(choreId);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<ChoreCompletionSummary>> getChoreCompletionsByChore(@PathVariable final Long choreId) {
+        final List<ChoreCompletionSummary> completions = choreCompletionService.getChoreCompletionsByChore(choreId);
         return new ResponseEntity<>(completions, HttpStatus.OK);
     }
 
@@ -112,14 +195,15 @@ public class ChoreCompletionController {
      * @param tribeId The ID of the tribe.
      * @param startDate The start date/time for the search range.
      * @param endDate The end date/time for the search range.
-     * @return ResponseEntity with a list of ChoreCompletion records.
+     * @return ResponseEntity with a list of ChoreCompletionSummary records.
      */
     @GetMapping("/tribe/{tribeId}/range")
-    public ResponseEntity<List<ChoreCompletion>> getChoreCompletionsByTribeAndDateRange(
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<ChoreCompletionSummary>> getChoreCompletionsByTribeAndDateRange(
             @PathVariable final Long tribeId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime endDate) {
-        final List<ChoreCompletion> completions = choreCompletionService.getChoreCompletionsByTribeAndDateRange(tribeId, startDate, endDate);
+        final List<ChoreCompletionSummary> completions = choreCompletionService.getChoreCompletionsByTribeAndDateRange(tribeId, startDate, endDate);
         return new ResponseEntity<>(completions, HttpStatus.OK);
     }
 
@@ -131,28 +215,77 @@ public class ChoreCompletionController {
      * @param userId The ID of the user.
      * @param startDate The start date/time for the search range.
      * @param endDate The end date/time for the search range.
-     * @return ResponseEntity with a list of ChoreCompletion records.
+     * @return ResponseEntity with a list of ChoreCompletionSummary records.
      */
     @GetMapping("/user/{userId}/range")
-    public ResponseEntity<List<ChoreCompletion>> getChoreCompletionsByUserAndDateRange(
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<ChoreCompletionSummary>> getChoreCompletionsByUserAndDateRange(
             @PathVariable final Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime endDate) {
-        final List<ChoreCompletion> completions = choreCompletionService.getChoreCompletionsByUserAndDateRange(userId, startDate, endDate);
+        final List<ChoreCompletionSummary> completions = choreCompletionService.getChoreCompletionsByUserAndDateRange(userId, startDate, endDate);
         return new ResponseEntity<>(completions, HttpStatus.OK);
     }
 
     /**
-     * Retrieves all chore completion records in the system (for administrative purposes).
-     * Endpoint: GET /api/chore-completions/all
-     * @return ResponseEntity with a list of all ChoreCompletion objects and HTTP status 200 (OK).
+     * Retrieves all chore completion records in the system (for administrative purposes), one page at a time.
+     * Endpoint: GET /api/chore-completions/all?after={cursor}&size=50
+     * @param after The next cursor returned with the previous page (omit for the first page).
+     * @param size The maximum number of completions per page (1-500, defaults to 50).
+     * @return ResponseEntity with a page of ChoreCompletionSummary records and HTTP status 200 (OK),
+     * or 400 (Bad Request) if the page size is out of range.
      */
     @GetMapping("/all")
-    public ResponseEntity<List<ChoreCompletion>> getAllChoreCompletions() {
-        final List<ChoreCompletion> completions = choreCompletionService.getAllChoreCompletions();
+    @QueryBudget(statements = 1)
+    public ResponseEntity<CursorPage<ChoreCompletionSummary>> getAllChoreCompletions(
+            @RequestParam(defaultValue = "0") final Long after,
+            @RequestParam(defaultValue = "50") final int size) {
+        if (size < 1 || size > CursorPage.MAX_SIZE) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        final CursorPage<ChoreCompletionSummary> completions = choreCompletionService.getAllChoreCompletions(after, size);
         return new ResponseEntity<>(completions, HttpStatus.OK);
     }
 
+    /**
+     * Exports chore completion records as newline-delimited JSON (one ChoreCompletionSummary per line), in ID order.
+     * The response is streamed while the records are read from the database, so exports of any size use constant memory.
+     * Endpoint: GET /api/chore-completions/export?tribeId=1&startDate=2025-01-01T00:00:00&endDate=2025-12-31T23:59:59
+     * (all parameters are optional; without them every completion is exported)
+     * @param tribeId The ID of the tribe to export, or omitted for every tribe.
+     * @param startDate The start date/time of the range (inclusive), or omitted for no lower bound.
+     * @param endDate The end date/time of the range (inclusive), or omitted for no upper bound.
+     * @return ResponseEntity with the streamed records and HTTP status 200 (OK),
+     * or 400 (Bad Request) if the start date is after the end date.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportChoreCompletions(
+            @RequestParam(required = false) final Long tribeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime endDate) {
+        final LocalDateTime from = startDate != null ? startDate : EXPORT_MIN_DATE;
+        final LocalDateTime to = endDate != null ? endDate : EXPORT_MAX_DATE;
+        if (from.isAfter(to)) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        // Runs on an async request thread after this method returns; the service opens its own read-only transaction
+        final StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // The servlet container closes the response
+                generator.setRootValueSeparator(null); // Lines are separated by the newline alone
+                choreCompletionService.exportChoreCompletions(tribeId, from, to, row -> {
+                    try {
+                        exportWriter.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e); // e.g. the client disconnected; aborts the export
+                    }
+                });
+            }
+        };
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
+
     /**
      * Deletes a chore completion record by its ID.
      * Note: Deleting a completion record does NOT automatically deduct points from the user.
@@ -163,12 +296,40 @@ public class ChoreCompletionController {
      * or 404 (Not Found) if record does not exist.
      */
     @DeleteMapping("/{id}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<Void> deleteChoreCompletion(@PathVariable final Long id) {
-        if (choreCompletionService.getChoreCompletionById(id).isPresent()) {
-            choreCompletionService.deleteChoreCompletion(id);
+        if (choreCompletionService.deleteChoreCompletion(id)) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT); // 204 No Content for successful deletion
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND); // 404 Not Found if record doesn't exist
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Helper method to answer a completion request whose idempotency key was stored by a concurrent request
+     * that committed first. Its completion is looked up once and replayed; the request is not recorded again.
+     * If the key cannot be found (e.g. it expired in between), the request is answered with 409 (Conflict),
+     * and the client may retry it.
+     */
+    private ResponseEntity<ChoreCompletion> replayConcurrentCompletion(final Long choreId, final Long userId, final String idempotencyKey) {
+        try {
+            return idempotencyService.findCompletionId(idempotencyKey, choreId, userId)
+                    .map(this::replayCompletion)
+                    .orElseGet(() -> new ResponseEntity<>(null, HttpStatus.CONFLICT));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST); // The concurrent request was for another chore or user
+        }
+    }
+
+    /**
+     * Helper method to answer a retried completion request with the completion recorded for the original one.
+     * The status is that of the original response; the Idempotent-Replayed header tells the two apart.
+     */
+    private ResponseEntity<ChoreCompletion> replayCompletion(final Long completionId) {
+        return choreCompletionService.getChoreCompletionById(completionId)
+                .map(completion -> ResponseEntity.status(HttpStatus.CREATED)
+                        .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                        .body(completion))
+                .orElseGet(() -> new ResponseEntity<>(null, HttpStatus.NOT_FOUND)); // Deleted since
+    }
+}
@@ -1,8 +1,13 @@
 package com.mychoreapp.chore_system_backend.controller; 
 
 import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.dto.ChoreSummary;
+import com.mychoreapp.chore_system_backend.dto.CursorPage;
 import com.mychoreapp.chore_system_backend.service.ChoreService;
+import com.mychoreapp.chore_system_backend.service.ConcurrentUpdateException;
+import com.mychoreapp.chore_system_backend.service.StaleVersionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,7 +17,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 import java.util.List;
@@ -63,13 +70,14 @@ public class ChoreController {
      * Retrieves a chore by its ID.
      * Endpoint: GET /api/chores/{id}
      * @param id The ID of the chore from the path variable.
-     * @return ResponseEntity with the Chore and HTTP status 200 (OK),
+     * @return ResponseEntity with the Chore, its version as ETag and HTTP status 200 (OK),
      * or 404 (Not Found) if chore does not exist.
      */
     @GetMapping("/{id}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<Chore> getChoreById(@PathVariable final Long id) {
         Optional<Chore> chore = choreService.getChoreById(id);
-        return chore.map(value -> new ResponseEntity<>(value, HttpStatus.OK)) // If chore found, return 200 OK
+        return chore.map(value -> new ResponseEntity<>(value, eTagOf(value), HttpStatus.OK)) // If chore found, return 200 OK
                    .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND)); // If not found, return 404 Not Found
     }
 
@@ -77,11 +85,12 @@ public class ChoreController {
      * Retrieves all chores for a specific tribe.
      * Endpoint: GET /api/chores/tribe/{tribeId}
      * @param tribeId The ID of the tribe.
-     * @return ResponseEntity with a list of chores belonging to the specified tribe and HTTP status 200 (OK).
+     * @return ResponseEntity with a list of summaries of the chores belonging to the specified tribe and HTTP status 200 (OK).
      */
     @GetMapping("/tribe/{tribeId}")
-    public ResponseEntity<List<Chore>> getChoresByTribe(@PathVariable final Long tribeId) {
-        List<Chore> chores = choreService.getChoresByTribe(tribeId);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<ChoreSummary>> getChoresByTribe(@PathVariable final Long tribeId) {
+        List<ChoreSummary> chores = choreService.getChoresByTribe(tribeId);
         return new ResponseEntity<>(chores, HttpStatus.OK);
     }
 
@@ -89,11 +98,12 @@ public class ChoreController {
      * Retrieves all active chores for a specific tribe.
      * Endpoint: GET /api/chores/tribe/{tribeId}/active
      * @param tribeId The ID of the tribe.
-     * @return ResponseEntity with a list of active chores belonging to the specified tribe and HTTP status 200 (OK).
+     * @return ResponseEntity with a list of summaries of the active chores belonging to the specified tribe and HTTP status 200 (OK).
      */
     @GetMapping("/tribe/{tribeId}/active")
-    public ResponseEntity<List<Chore>> getActiveChoresByTribe(@PathVariable final Long tribeId) {
-        List<Chore> chores = choreService.getActiveChoresByTribe(tribeId);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<ChoreSummary>> getActiveChoresByTribe(@PathVariable final Long tribeId) {
+        List<ChoreSummary> chores = choreService.getActiveChoresByTribe(tribeId);
         return new ResponseEntity<>(chores, HttpStatus.OK);
     }
 
@@ -101,11 +111,12 @@ public class ChoreController {
      * Retrieves all chores assigned to a specific user.
      * Endpoint: GET /api/chores/assigned-to/{userId}
      * @param userId The ID of the user.
-     * @return ResponseEntity with a list of chores assigned to the specified user and HTTP status 200 (OK).
+     * @return ResponseEntity with a list of summaries of the chores assigned to the specified user and HTTP status 200 (OK).
      */
     @GetMapping("/assigned-to/{userId}")
-    public ResponseEntity<List<Chore>> getChoresAssignedToUser(@PathVariable final Long userId) {
-        List<Chore> chores = choreService.getChoresAssignedToUser(userId);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<ChoreSummary>> getChoresAssignedToUser(@PathVariable final Long userId) {
+        List<ChoreSummary> chores = choreService.getChoresAssignedToUser(userId);
         return new ResponseEntity<>(chores, HttpStatus.OK);
     }
 
@@ -113,39 +124,66 @@ public class ChoreController {
      * Retrieves all active chores assigned to a specific user.
      * Endpoint: GET /api/chores/assigned-to/{userId}/active
      * @param userId The ID of the user.
-     * @return ResponseEntity with a list of active chores assigned to the specified user and HTTP status 200 (OK).
+     * @return ResponseEntity with a list of summaries of the active chores assigned to the specified user and HTTP status 200 (OK).
      */
     @GetMapping("/assigned-to/{userId}/active")
-    public ResponseEntity<List<Chore>> getActiveChoresAssignedToUser(@PathVariable final Long userId) {
-        List<Chore> chores = choreService.getActiveChoresAssignedToUser(userId);
+    @QueryBudget(statements = 1)
+    public ResponseEntity<List<ChoreSummary>> getActiveChoresAssignedToUser(@PathVariable final Long userId) {
+        List<ChoreSummary> chores = choreService.getActiveChoresAssignedToUser(userId);
         return new ResponseEntity<>(chores, HttpStatus.OK);
     }
 
     /**
-     * Retrieves all chores in the system (for administrative purposes).
-     * Endpoint: GET /api/chores/all
-     * @return ResponseEntity with a list of all Chore objects and HTTP status 200 (OK).
+     * Retrieves all chores in the system (for administrative purposes), one page at a time.
+     * Endpoint: GET /api/chores/all?after={cursor}&size=50
+     * @param after The next cursor returned with the previous page (omit for the first page).
+     * @param size The maximum number of chores per page (1-500, defaults to 50).
+     * @return ResponseEntity with a page of chore summaries and HTTP status 200 (OK),
+     * or 400 (Bad Request) if the page size is out of range.
      */
     @GetMapping("/all")
-    public ResponseEntity<List<Chore>> getAllChores() {
-        List<Chore> chores = choreService.getAllChores();
+    @QueryBudget(statements = 1)
+    public ResponseEntity<CursorPage<ChoreSummary>> getAllChores(
+            @RequestParam(defaultValue = "0") final Long after,
+            @RequestParam(defaultValue = "50") final int size) {
+        if (size < 1 || size > CursorPage.MAX_SIZE) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        CursorPage<ChoreSummary> chores = choreService.getAllChores(after, size);
         return new ResponseEntity<>(chores, HttpStatus.OK);
     }
 
     /**
      * Updates an existing chore.
+     * The update must be based on the current version of the chore, as read with it: the version is sent
+     * in the request body or as an If-Match header (the ETag of GET /api/chores/{id}), which takes precedence.
      * Endpoint: PUT /api/chores/{id}
      * @param id The ID of the chore to update from the path variable.
      * @param chore The Chore object with updated information received from the request body.
-     * @return ResponseEntity with the updated Chore and HTTP status 200 (OK),
-     * or 400 (Bad Request) if validation fails (e.g., ID mismatch, duplicate name, invalid tribe/user).
+     * @param ifMatch The ETag of the version the update is based on (optional if the body has the version).
+     * @return ResponseEntity with the updated Chore, its new version as ETag and HTTP status 200 (OK),
+     * or 400 (Bad Request) if validation fails (e.g., ID mismatch, malformed If-Match, duplicate name, invalid tribe/user).
      * or 404 (Not Found) if the chore to update does not exist.
+     * or 409 (Conflict) if concurrent updates kept conflicting with this one; the client may try again.
+     * or 412 (Precondition Failed) if the chore has changed since the given version.
+     * or 428 (Precondition Required) if neither an If-Match header nor a version in the body is given.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Chore> updateChore(@PathVariable final Long id, @RequestBody final Chore chore) {
+    public ResponseEntity<Chore> updateChore(@PathVariable final Long id, @RequestBody final Chore chore,
+                                             @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) final String ifMatch) {
+        if (ifMatch == null && chore.getVersion() == null) {
+            return new ResponseEntity<>(null, HttpStatus.PRECONDITION_REQUIRED); // Unconditional updates could overwrite others' changes
+        }
         try {
+            if (ifMatch != null) {
+                chore.setVersion(parseVersion(ifMatch));
+            }
             Chore updatedChore = choreService.updateChore(id, chore);
-            return new ResponseEntity<>(updatedChore, HttpStatus.OK);
+            return new ResponseEntity<>(updatedChore, eTagOf(updatedChore), HttpStatus.OK);
+        } catch (StaleVersionException e) {
+            return new ResponseEntity<>(null, HttpStatus.PRECONDITION_FAILED); // The client must read the chore again and reapply its changes
+        } catch (ConcurrentUpdateException e) {
+            return new ResponseEntity<>(null, HttpStatus.CONFLICT); // Retries exhausted; the client may try again
         } catch (IllegalArgumentException e) {
             // Distinguish between 400 (bad request data) and 404 (resource not found)
             if (e.getMessage().contains("not found")) { // Simple check, more robust error handling could use custom exceptions
@@ -181,12 +219,15 @@ public class ChoreController {
      * @return ResponseEntity with the updated Chore and HTTP status 200 (OK),
      * or 400 (Bad Request) if validation fails (e.g., user not in chore's tribe).
      * or 404 (Not Found) if chore or user does not exist.
+     * or 409 (Conflict) if concurrent updates kept conflicting with this one.
      */
     @PutMapping("/{choreId}/assign/{userId}")
     public ResponseEntity<Chore> assignChore(@PathVariable final Long choreId, @PathVariable final Long userId) {
         try {
             Chore assignedChore = choreService.assignChore(choreId, userId);
             return new ResponseEntity<>(assignedChore, HttpStatus.OK);
+        } catch (ConcurrentUpdateException e) {
+            return new ResponseEntity<>(null, HttpStatus.CONFLICT); // Retries exhausted; the client may try again
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("not found")) {
                 return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
@@ -201,12 +242,15 @@ public class ChoreController {
      * @param choreId The ID of the chore to unassign.
      * @return ResponseEntity with the updated Chore and HTTP status 200 (OK),
      * or 404 (Not Found) if chore does not exist.
+     * or 409 (Conflict) if concurrent updates kept conflicting with this one.
      */
     @PutMapping("/{choreId}/unassign")
     public ResponseEntity<Chore> unassignChore(@PathVariable final Long choreId) {
         try {
             Chore unassignedChore = choreService.unassignChore(choreId);
             return new ResponseEntity<>(unassignedChore, HttpStatus.OK);
+        } catch (ConcurrentUpdateException e) {
+            return new ResponseEntity<>(null, HttpStatus.CONFLICT); // Retries exhausted; the client may try again
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("not found")) {
                 return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
@@ -214,4 +258,33 @@ public class ChoreController {
             return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Helper method to return the headers with a chore's version as its ETag, for the client to send back as If-Match.
+     * @param chore The chore.
+     * @return The response headers.
+     */
+    private HttpHeaders eTagOf(final Chore chore) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"" + chore.getVersion() + "\"");
+        return headers;
+    }
+
+    /**
+     * Helper method to parse the chore version from an If-Match header, such as "3" (quotes included).
+     * @param ifMatch The header value.
+     * @return The version.
+     * @throws IllegalArgumentException if the header is not a single ETag of this controller.
+     */
+    private Long parseVersion(final String ifMatch) {
+        final String eTag = ifMatch.trim();
+        if (eTag.length() < 3 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single ETag of the chore.");
+        }
+        try {
+            return Long.valueOf(eTag.substring(1, eTag.length() - 1));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single ETag of the chore.");
+        }
+    }
+}
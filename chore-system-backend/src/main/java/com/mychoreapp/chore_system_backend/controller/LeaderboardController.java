@@ -0,0 +1,121 @@
+package com.mychoreapp.chore_system_backend.controller;
+
+import com.mychoreapp.chore_system_backend.dto.LeaderboardEntry;
+import com.mychoreapp.chore_system_backend.service.LeaderboardPeriod;
+import com.mychoreapp.chore_system_backend.service.LeaderboardService;
+import com.mychoreapp.chore_system_backend.service.TribeActivityBroadcaster;
+import com.mychoreapp.chore_system_backend.service.TribeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * REST Controller for tribe leaderboard API endpoints.
+ * Leaderboards are served from memory by the LeaderboardService; live updates are streamed by the TribeActivityBroadcaster.
+ */
+@RestController
+@RequestMapping("/api/leaderboard")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100; // Upper bound on the number of entries returned in one response
+
+    private final LeaderboardService leaderboardService;
+    private final TribeActivityBroadcaster tribeActivityBroadcaster;
+    private final TribeService tribeService;
+
+    /**
+     * Constructor for dependency injection.
+     * Spring automatically injects instances of the required services.
+     * @param leaderboardService The service to be injected.
+     * @param tribeActivityBroadcaster The service that streams tribe activity.
+     * @param tribeService The service used to check that a streamed tribe exists.
+     */
+    @Autowired
+    public LeaderboardController(final LeaderboardService leaderboardService,
+                                 final TribeActivityBroadcaster tribeActivityBroadcaster,
+                                 final TribeService tribeService) {
+        this.leaderboardService = leaderboardService;
+        this.tribeActivityBroadcaster = tribeActivityBroadcaster;
+        this.tribeService = tribeService;
+    }
+
+    /**
+     * Retrieves the top users of a tribe for a period.
+     * Endpoint: GET /api/leaderboard/tribe/{tribeId}?period=WEEKLY&limit=10
+     * @param tribeId The ID of the tribe.
+     * @param period ALL_TIME (default) for lifetime points, or DAILY, WEEKLY or MONTHLY
+     * for the points earned from completions in the current period.
+     * @param limit The maximum number of entries to return (1-100, defaults to 10).
+     * @return ResponseEntity with the leaderboard entries and HTTP status 200 (OK),
+     * or 400 (Bad Request) if the limit is out of range, or 404 (Not Found) if the tribe does not exist.
+     */
+    @GetMapping("/tribe/{tribeId}")
+    @QueryBudget(statements = 2) // Tribe (unless cached) and board, when the board is not held
+    public ResponseEntity<List<LeaderboardEntry>> getTopUsers(
+            @PathVariable final Long tribeId,
+            @RequestParam(defaultValue = "ALL_TIME") final LeaderboardPeriod period,
+            @RequestParam(defaultValue = "10") final int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return new ResponseEntity<>(leaderboardService.getTopUsers(tribeId, period, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(null, HttpStatus.NOT_FOUND); // The tribe does not exist
+        }
+    }
+
+    /**
+     * Retrieves the rank and points of a single user within a tribe for a period.
+     * Endpoint: GET /api/leaderboard/tribe/{tribeId}/user/{userId}?period=WEEKLY
+     * @param tribeId The ID of the tribe.
+     * @param userId The ID of the user.
+     * @param period ALL_TIME (default), DAILY, WEEKLY or MONTHLY.
+     * @return ResponseEntity with the user's leaderboard entry and HTTP status 200 (OK),
+     * or 404 (Not Found) if the tribe does not exist, or the user is not a member of it or has no points in the period.
+     */
+    @GetMapping("/tribe/{tribeId}/user/{userId}")
+    @QueryBudget(statements = 2) // Tribe (unless cached) and board, when the board is not held
+    public ResponseEntity<LeaderboardEntry> getUserRank(
+            @PathVariable final Long tribeId,
+            @PathVariable final Long userId,
+            @RequestParam(defaultValue = "ALL_TIME") final LeaderboardPeriod period) {
+        try {
+            final Optional<LeaderboardEntry> entry = leaderboardService.getUserRank(tribeId, userId, period);
+            return entry.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+                       .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND); // The tribe does not exist
+        }
+    }
+
+    /**
+     * Opens a live stream of a tribe's leaderboard and activity, as Server-Sent Events, so dashboards need not poll.
+     * The first event (leaderboard) holds the current top ten; every chore completion committed afterwards follows
+     * as a completion event, with the completing user's new points total. Clients that fall behind are disconnected
+     * and should reconnect, as EventSource does.
+     * Endpoint: GET /api/leaderboard/tribe/{tribeId}/stream
+     * @param tribeId The ID of the tribe.
+     * @return ResponseEntity with the event stream and HTTP status 200 (OK),
+     * or 404 (Not Found) if the tribe does not exist.
+     */
+    @GetMapping(value = "/tribe/{tribeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTribeActivity(@PathVariable final Long tribeId) {
+        if (tribeService.getTribeById(tribeId).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(tribeActivityBroadcaster.subscribe(tribeId), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,25 @@
+package com.mychoreapp.chore_system_backend.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements an endpoint may issue per request.
+ * Requests over the budget are logged as warnings; with query-budget.fail-on-exceeded=true (as in the tests)
+ * the statement that exceeds the budget fails instead, so an N+1 regression fails the build at its source.
+ * See QueryStatisticsInterceptor.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * @return The maximum number of statements prepared while handling one request, including lazy loading
+     * during serialization of the response.
+     */
+    int statements();
+}
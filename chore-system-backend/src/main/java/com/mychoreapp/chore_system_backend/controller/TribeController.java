@@ -1,6 +1,7 @@
 package com.mychoreapp.chore_system_backend.controller;
 
 import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.dto.CursorPage;
 import com.mychoreapp.chore_system_backend.service.TribeService;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,11 +13,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -66,6 +67,7 @@ public class TribeController {
      * or 404 (Not Found) if tribe does not exist.
      */
     @GetMapping("/{id}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<Tribe> getTribeById(@PathVariable final Long id) {
         Optional<Tribe> tribe = tribeService.getTribeById(id);
         return tribe.map(value -> new ResponseEntity<>(value, HttpStatus.OK)) // If tribe found, return 200 OK
@@ -80,6 +82,7 @@ public class TribeController {
      * or 404 (Not Found) if tribe does not exist.
      */
     @GetMapping("/by-name/{name}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<Tribe> getTribeByName(@PathVariable final String name) {
         Optional<Tribe> tribe = tribeService.getTribeByName(name);
         return tribe.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
@@ -94,6 +97,7 @@ public class TribeController {
      * or 404 (Not Found) if tribe does not exist.
      */
     @GetMapping("/by-join-code/{joinCode}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<Tribe> getTribeByJoinCode(@PathVariable final String joinCode) {
         Optional<Tribe> tribe = tribeService.getTribeByJoinCode(joinCode);
         return tribe.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
@@ -101,13 +105,22 @@ public class TribeController {
     }
 
     /**
-     * Retrieves all tribes.
-     * Endpoint: GET /api/tribes
-     * @return ResponseEntity with a list of all Tribes and HTTP status 200 (OK).
+     * Retrieves all tribes, one page at a time.
+     * Endpoint: GET /api/tribes?after={cursor}&size=50
+     * @param after The next cursor returned with the previous page (omit for the first page).
+     * @param size The maximum number of tribes per page (1-500, defaults to 50).
+     * @return ResponseEntity with a page of Tribes and HTTP status 200 (OK),
+     * or 400 (Bad Request) if the page size is out of range.
      */
     @GetMapping
-    public ResponseEntity<List<Tribe>> getAllTribes() {
-        List<Tribe> tribes = tribeService.getAllTribes();
+    @QueryBudget(statements = 1)
+    public ResponseEntity<CursorPage<Tribe>> getAllTribes(
+            @RequestParam(defaultValue = "0") final Long after,
+            @RequestParam(defaultValue = "50") final int size) {
+        if (size < 1 || size > CursorPage.MAX_SIZE) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        CursorPage<Tribe> tribes = tribeService.getAllTribes(after, size);
         return new ResponseEntity<>(tribes, HttpStatus.OK);
     }
 
@@ -1,6 +1,8 @@
 package com.mychoreapp.chore_system_backend.controller;
 
 import com.mychoreapp.chore_system_backend.model.User;
+import com.mychoreapp.chore_system_backend.dto.CursorPage;
+import com.mychoreapp.chore_system_backend.service.ConcurrentUpdateException;
 import com.mychoreapp.chore_system_backend.service.UserService;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,11 +14,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -66,6 +68,7 @@ public class UserController {
      * or 404 (Not Found) if user does not exist.
      */
     @GetMapping("/{id}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<User> getUserById(@PathVariable final Long id) {
         Optional<User> user = userService.getUserById(id);
         return user.map(value -> new ResponseEntity<>(value, HttpStatus.OK)) // If user found, return 200 OK
@@ -80,6 +83,7 @@ public class UserController {
      * or 404 (Not Found) if user does not exist.
      */
     @GetMapping("/by-username/{username}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<User> getUserByUsername(@PathVariable final String username) {
         Optional<User> user = userService.getUserByUsername(username);
         return user.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
@@ -94,6 +98,7 @@ public class UserController {
      * or 404 (Not Found) if user does not exist.
      */
     @GetMapping("/by-google-id/{googleId}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<User> getUserByGoogleId(@PathVariable final String googleId) {
         Optional<User> user = userService.getUserByGoogleId(googleId);
         return user.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
@@ -108,6 +113,7 @@ public class UserController {
      * or 404 (Not Found) if user does not exist.
      */
     @GetMapping("/by-email/{email}")
+    @QueryBudget(statements = 1)
     public ResponseEntity<User> getUserByEmail(@PathVariable final String email) {
         Optional<User> user = userService.getUserByEmail(email);
         return user.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
@@ -115,13 +121,22 @@ public class UserController {
     }
 
     /**
-     * Retrieves all users.
-     * Endpoint: GET /api/users
-     * @return ResponseEntity with a list of all Users and HTTP status 200 (OK).
+     * Retrieves all users, one page at a time.
+     * Endpoint: GET /api/users?after={cursor}&size=50
+     * @param after The next cursor returned with the previous page (omit for the first page).
+     * @param size The maximum number of users per page (1-500, defaults to 50).
+     * @return ResponseEntity with a page of Users and HTTP status 200 (OK),
+     * or 400 (Bad Request) if the page size is out of range.
      */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
+    @QueryBudget(statements = 1)
+    public ResponseEntity<CursorPage<User>> getAllUsers(
+            @RequestParam(defaultValue = "0") final Long after,
+            @RequestParam(defaultValue = "50") final int size) {
+        if (size < 1 || size > CursorPage.MAX_SIZE) {
+            return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        }
+        CursorPage<User> users = userService.getAllUsers(after, size);
         return new ResponseEntity<>(users, HttpStatus.OK);
     }
 
@@ -166,6 +181,7 @@ public class UserController {
      * @return ResponseEntity with the updated User and HTTP status 200 (OK),
      * or 400 (Bad Request) if user is already in a tribe,
      * or 404 (Not Found) if user or tribe does not exist.
+     * or 409 (Conflict) if concurrent updates kept conflicting with this one.
      */
     @PutMapping("/{userId}/join-tribe/{joinCode}")
     public ResponseEntity<User> joinTribe(@PathVariable final Long userId, @PathVariable final String joinCode) {
@@ -173,6 +189,8 @@ public class UserController {
             Optional<User> updatedUser = userService.joinTribe(userId, joinCode);
             return updatedUser.map(user -> new ResponseEntity<>(user, HttpStatus.OK))
                               .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (ConcurrentUpdateException e) {
+            return new ResponseEntity<>(null, HttpStatus.CONFLICT); // Retries exhausted; the client may try again
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST); // User already in a tribe
         }
@@ -185,6 +203,7 @@ public class UserController {
      * @return ResponseEntity with the updated User and HTTP status 200 (OK),
      * or 400 (Bad Request) if user is not in a tribe,
      * or 404 (Not Found) if user does not exist.
+     * or 409 (Conflict) if concurrent updates kept conflicting with this one.
      */
     @PutMapping("/{userId}/leave-tribe")
     public ResponseEntity<User> leaveTribe(@PathVariable final Long userId) {
@@ -192,6 +211,8 @@ public class UserController {
             Optional<User> updatedUser = userService.leaveTribe(userId);
             return updatedUser.map(user -> new ResponseEntity<>(user, HttpStatus.OK))
                               .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (ConcurrentUpdateException e) {
+            return new ResponseEntity<>(null, HttpStatus.CONFLICT); // Retries exhausted; the client may try again
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST); // User not in a tribe
         }
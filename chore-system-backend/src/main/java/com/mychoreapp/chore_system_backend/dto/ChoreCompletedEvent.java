@@ -0,0 +1,43 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+import com.mychoreapp.chore_system_backend.model.ChoreCompletion;
+import com.mychoreapp.chore_system_backend.model.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published once a chore completion has been committed, and pushed as is to the
+ * tribe's live activity stream (see TribeActivityBroadcaster).
+ * @param completionId The ID of the completion record.
+ * @param choreId The ID of the completed chore.
+ * @param choreName The name of the completed chore.
+ * @param tribeId The ID of the tribe the chore belongs to.
+ * @param userId The ID of the user who completed the chore.
+ * @param displayName The display name of that user: the username, or the full name for Google users.
+ * @param pointsAwarded The points awarded for the completion.
+ * @param userPoints The user's lifetime points after the completion.
+ * @param completionDate When the chore was completed.
+ */
+public record ChoreCompletedEvent(Long completionId, Long choreId, String choreName, Long tribeId, Long userId,
+                                  String displayName, int pointsAwarded, int userPoints, LocalDateTime completionDate) {
+
+    /**
+     * Creates the event for a saved completion.
+     * @param completion The completion.
+     * @param userPoints The completing user's points total after the completion.
+     * @return The event.
+     */
+    public static ChoreCompletedEvent from(final ChoreCompletion completion, final int userPoints) {
+        final User user = completion.getCompletedBy();
+        return new ChoreCompletedEvent(
+                completion.getId(),
+                completion.getChore().getId(),
+                completion.getChore().getName(),
+                completion.getChore().getTribe().getId(),
+                user.getId(),
+                user.getUsername() != null ? user.getUsername() : user.getName(),
+                completion.getPointsAwarded(),
+                userPoints,
+                completion.getCompletionDate());
+    }
+}
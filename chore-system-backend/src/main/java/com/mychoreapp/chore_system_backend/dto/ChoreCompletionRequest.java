@@ -0,0 +1,12 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One completion in a batch submitted by a client that recorded completions while offline.
+ * @param choreId The ID of the chore that was completed.
+ * @param userId The ID of the user who completed the chore.
+ * @param completionDate When the chore was completed (nullable; defaults to the time the batch is recorded).
+ */
+public record ChoreCompletionRequest(Long choreId, Long userId, LocalDateTime completionDate) {
+}
@@ -0,0 +1,40 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+import com.mychoreapp.chore_system_backend.model.ChoreCompletion;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lean view of a ChoreCompletion returned by the list and export endpoints.
+ * Carries only the IDs and display names of the chore and user instead of embedding the full
+ * chore, tribe and user objects, so list queries select a few columns and responses stay small.
+ * @param id The ID of the completion record.
+ * @param choreId The ID of the completed chore.
+ * @param choreName The name of the completed chore.
+ * @param tribeId The ID of the tribe the chore belonged to when it was completed.
+ * @param completedByUserId The ID of the user who completed the chore.
+ * @param completedByName The display name of that user: the username, or the full name for Google users.
+ * @param completionDate When the chore was completed.
+ * @param pointsAwarded The points awarded for the completion.
+ */
+public record ChoreCompletionSummary(Long id, Long choreId, String choreName, Long tribeId, Long completedByUserId,
+                                     String completedByName, LocalDateTime completionDate, int pointsAwarded) {
+
+    /**
+     * Builds the summary of a loaded completion record.
+     * @param completion The completion record, with its chore and user loaded.
+     * @return The summary.
+     */
+    public static ChoreCompletionSummary from(final ChoreCompletion completion) {
+        final String username = completion.getCompletedBy().getUsername();
+        return new ChoreCompletionSummary(
+                completion.getId(),
+                completion.getChore().getId(),
+                completion.getChore().getName(),
+                completion.getTribeId(),
+                completion.getCompletedBy().getId(),
+                username != null ? username : completion.getCompletedBy().getName(),
+                completion.getCompletionDate(),
+                completion.getPointsAwarded());
+    }
+}
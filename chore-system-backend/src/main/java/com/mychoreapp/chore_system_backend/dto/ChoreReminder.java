@@ -0,0 +1,35 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.mychoreapp.chore_system_backend.model.Chore;
+
+import java.time.LocalDate;
+
+/**
+ * Reminder sent to the assignee of a chore whose due date is approaching.
+ * @param choreId The ID of the chore.
+ * @param choreName The name of the chore.
+ * @param tribeId The ID of the tribe the chore belongs to.
+ * @param assignedToUserId The ID of the user the chore is assigned to.
+ * @param assignedToName The display name of that user: the username, or the full name for Google users.
+ * @param dueDate When the chore should be completed.
+ */
+public record ChoreReminder(Long choreId, String choreName, Long tribeId, Long assignedToUserId, String assignedToName,
+                            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate dueDate) {
+
+    /**
+     * Creates the reminder for an assigned chore.
+     * @param chore The chore; its assigned user must not be null.
+     * @return The reminder.
+     */
+    public static ChoreReminder from(final Chore chore) {
+        final String username = chore.getAssignedTo().getUsername();
+        return new ChoreReminder(
+                chore.getId(),
+                chore.getName(),
+                chore.getTribe().getId(),
+                chore.getAssignedTo().getId(),
+                username != null ? username : chore.getAssignedTo().getName(),
+                chore.getDueDate());
+    }
+}
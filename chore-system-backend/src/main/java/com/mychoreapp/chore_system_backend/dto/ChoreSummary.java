@@ -0,0 +1,50 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.User;
+
+import java.time.LocalDate;
+
+/**
+ * Lean view of a Chore returned by the list endpoints.
+ * Carries the chore's own fields plus the IDs (and the assignee's display name) of its tribe and assigned user,
+ * instead of embedding the full tribe and user objects.
+ * @param id The ID of the chore.
+ * @param name The name of the chore.
+ * @param description The description of the chore (nullable).
+ * @param pointsValue The points awarded for completing the chore.
+ * @param dueDate When the chore should be completed (nullable).
+ * @param isRecurring Whether the chore repeats.
+ * @param recurrencePattern How often the chore repeats (nullable).
+ * @param active Whether the chore is currently active.
+ * @param tribeId The ID of the tribe the chore belongs to.
+ * @param assignedToUserId The ID of the user the chore is assigned to, or null if unassigned.
+ * @param assignedToName The display name of that user: the username, or the full name for Google users.
+ */
+public record ChoreSummary(Long id, String name, String description, int pointsValue,
+                           @JsonFormat(pattern = "yyyy-MM-dd") LocalDate dueDate,
+                           boolean isRecurring, String recurrencePattern, boolean active,
+                           Long tribeId, Long assignedToUserId, String assignedToName) {
+
+    /**
+     * Creates the summary of a loaded chore.
+     * @param chore The chore.
+     * @return The summary.
+     */
+    public static ChoreSummary from(final Chore chore) {
+        final User assignedTo = chore.getAssignedTo();
+        return new ChoreSummary(
+                chore.getId(),
+                chore.getName(),
+                chore.getDescription(),
+                chore.getPointsValue(),
+                chore.getDueDate(),
+                chore.isRecurring(),
+                chore.getRecurrencePattern(),
+                chore.isActive(),
+                chore.getTribe().getId(),
+                assignedTo == null ? null : assignedTo.getId(),
+                assignedTo == null ? null : assignedTo.getUsername() != null ? assignedTo.getUsername() : assignedTo.getName());
+    }
+}
@@ -0,0 +1,32 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+/**
+ * Spring Data projection of the points awarded for one chore completion, with the user who earned them.
+ */
+public interface CompletionPoints {
+
+    /**
+     * @return The ID of the completion.
+     */
+    Long getId();
+
+    /**
+     * @return The ID of the user who completed the chore.
+     */
+    Long getUserId();
+
+    /**
+     * @return The user's username (null for Google users).
+     */
+    String getUsername();
+
+    /**
+     * @return The user's full name.
+     */
+    String getName();
+
+    /**
+     * @return The points awarded for the completion.
+     */
+    int getPoints();
+}
@@ -0,0 +1,34 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing, ordered by ID.
+ * To fetch the following page, pass {@code next} back as the {@code after} request parameter.
+ * Pages are read with {@code WHERE id > :after ORDER BY id} rather than an offset: each page is an index range scan
+ * on the primary key, so its cost does not grow with the page number or the size of the table, and rows inserted
+ * or deleted between requests do not shift later pages.
+ * @param items The items on this page.
+ * @param next The cursor for the following page (the ID of the last item), or null if this is the last page.
+ * @param <T> The type of the items.
+ */
+public record CursorPage<T>(List<T> items, Long next) {
+
+    public static final int MAX_SIZE = 500; // Upper bound on the page size a client may request
+
+    /**
+     * Builds a page from a Spring Data slice.
+     * @param slice The slice returned by a keyset query.
+     * @param idOf Extracts the ID (the keyset column) of an item.
+     * @return The page, with a next cursor if the slice has more items after it.
+     * @param <T> The type of the items.
+     */
+    public static <T> CursorPage<T> of(final Slice<T> slice, final Function<T, Long> idOf) {
+        final List<T> items = slice.getContent();
+        final Long next = slice.hasNext() && !items.isEmpty() ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, next);
+    }
+}
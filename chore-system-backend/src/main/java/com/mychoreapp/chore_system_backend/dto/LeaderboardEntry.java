@@ -0,0 +1,12 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+/**
+ * A single row of a tribe leaderboard.
+ * Users with the same number of points share the same rank (e.g., 1, 1, 3).
+ * @param userId The ID of the user.
+ * @param displayName The username, or the full name for Google users without a username.
+ * @param points The user's points for the leaderboard being viewed.
+ * @param rank The 1-based rank of the user within the tribe.
+ */
+public record LeaderboardEntry(Long userId, String displayName, int points, int rank) {
+}
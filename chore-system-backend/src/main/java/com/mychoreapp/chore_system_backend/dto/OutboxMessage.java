@@ -0,0 +1,16 @@
+package com.mychoreapp.chore_system_backend.dto;
+
+import com.mychoreapp.chore_system_backend.model.OutboxEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox event as delivered to the outbox sinks.
+ * @param id The ID of the event. Events are delivered in commit order, which is not always ID order.
+ * @param eventType What happened.
+ * @param tribeId The tribe the event belongs to (nullable).
+ * @param payload The event as JSON; its shape depends on the event type.
+ * @param createdAt When the event was written.
+ */
+public record OutboxMessage(Long id, OutboxEventType eventType, Long tribeId, String payload, LocalDateTime createdAt) {
+}
@@ -2,17 +2,22 @@ package com.mychoreapp.chore_system_backend.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDate;
@@ -26,11 +31,13 @@ import java.time.LocalDate;
 @Getter // Lombok will automatically generate all getter methods
 @Setter // Lombok will automatically generate all setter methods
 @NoArgsConstructor // Lombok will automatically generate the default no-argument constructor
-@ToString // Lombok will generate a toString() method
+@ToString(exclude = {"tribe", "assignedTo"}) // Lombok will generate a toString() method, excluding the lazily loaded associations
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // Lets Jackson serialize lazy-loading proxies of this entity
 public class Chore {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-generated ID
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chores_seq") // Auto-generated ID from a pooled sequence
+    @SequenceGenerator(name = "chores_seq", sequenceName = "chores_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false) 
@@ -49,21 +56,31 @@ public class Chore {
     @JsonProperty("isRecurring")
     private boolean isRecurring; // Whether this chore repeats
 
-    private String recurrencePattern; // If recurring, how often (e.g., "DAILY", "WEEKLY", "MONTHLY") (nullable)
+    private String recurrencePattern; // If recurring, how often: "DAILY", "WEEKLY", "MONTHLY", "YEARLY" or an RRULE such as "FREQ=WEEKLY;BYDAY=MO,TH" (nullable)
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate recurrenceStart; // If recurring, the first due date of the series, from which the pattern's INTERVAL and COUNT are counted (nullable)
 
     @Column(nullable = false) // Active flag cannot be null, default to true
     private boolean isActive = true; // Whether the chore is currently active/assignable
 
+    @Column(nullable = false) // Set when a recurring chore is completed, cleared once its next instance is created
+    @JsonIgnore // Managed by the completion transaction and RecurringChoreService, never taken from a request body
+    private boolean nextInstancePending; // Whether this recurring chore was completed and awaits its next instance
+
     // --- Relationships ---
 
-    @ManyToOne // Many Chores belong to One Tribe
+    @ManyToOne(fetch = FetchType.LAZY) // Many Chores belong to One Tribe; loaded on demand (see the entity graphs in IChoreRepository)
     @JoinColumn(name = "tribe_id", nullable = false) // Foreign key to the tribes table, a chore must belong to a tribe
     private Tribe tribe; // The Tribe this chore belongs to
 
-    @ManyToOne // Many Chores can be assigned to One User
+    @ManyToOne(fetch = FetchType.LAZY) // Many Chores can be assigned to One User; loaded on demand
     @JoinColumn(name = "assigned_user_id", nullable = true) // Foreign key to the users table, a chore can be unassigned
     private User assignedTo; // The User this chore is currently assigned to (nullable)
 
+    @Version // Incremented on every update; an update based on an outdated copy of the chore fails instead of overwriting newer changes
+    private Long version; // Sent back with an update (in the body or an If-Match header), which is rejected if the chore has changed since
+
     /**
      * Constructor for creating a new Chore.
      * @param name The name of the chore.
@@ -2,9 +2,11 @@ package com.mychoreapp.chore_system_backend.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,21 +26,25 @@ import java.time.LocalDateTime; // To record the exact date and time of completi
 @Getter
 @Setter
 @NoArgsConstructor
-@ToString
+@ToString(exclude = {"chore", "completedBy"}) // Excludes the lazily loaded associations
 public class ChoreCompletion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chore_completions_seq")
+    @SequenceGenerator(name = "chore_completions_seq", sequenceName = "chore_completions_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne // Many ChoreCompletions refer to One Chore
+    @ManyToOne(fetch = FetchType.LAZY) // Many ChoreCompletions refer to One Chore; loaded on demand (see the entity graphs in IChoreCompletionRepository)
     @JoinColumn(name = "chore_id", nullable = false) // Foreign key to the chores table, a completion must be for a chore
     private Chore chore; // The Chore that was completed
 
-    @ManyToOne // Many ChoreCompletions are completed by One User
+    @ManyToOne(fetch = FetchType.LAZY) // Many ChoreCompletions are completed by One User; loaded on demand
     @JoinColumn(name = "completed_by_user_id", nullable = false) // Foreign key to the users table, a completion must have a user
     private User completedBy; // The User who completed the chore
 
+    @Column(name = "tribe_id", nullable = false) // Copy of the chore's tribe, so tribe queries do not need to join the chores table
+    private Long tribeId; // The ID of the Tribe the chore belonged to when it was completed
+
     @Column(nullable = false) // Completion date/time cannot be null
     private LocalDateTime completionDate; // The exact date and time the chore was completed
 
@@ -54,6 +60,7 @@ public class ChoreCompletion {
     public ChoreCompletion(final Chore chore, final User completedBy, final int pointsAwarded) {
         this.chore = chore;
         this.completedBy = completedBy;
+        this.tribeId = chore.getTribe().getId();
         this.pointsAwarded = pointsAwarded;
         this.completionDate = LocalDateTime.now(); // Automatically set to current time upon creation
     }
@@ -68,6 +75,7 @@ public class ChoreCompletion {
     public ChoreCompletion(final Chore chore, final User completedBy, final int pointsAwarded, final LocalDateTime completionDate) {
         this.chore = chore;
         this.completedBy = completedBy;
+        this.tribeId = chore.getTribe().getId();
         this.pointsAwarded = pointsAwarded;
         this.completionDate = completionDate;
     }
@@ -0,0 +1,42 @@
+package com.mychoreapp.chore_system_backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * The outcome of a chore completion request sent with an Idempotency-Key header: the request it was sent with,
+ * and the completion that was recorded. Only the completion's ID is kept; a replayed response is read from
+ * the completion itself. Rows are inserted by IIdempotencyKeyRepository.insertIfAbsent, never saved.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String key; // Chosen by the client, e.g. a UUID per user action
+
+    @Column(nullable = false)
+    private Long choreId; // The chore of the request
+
+    @Column(nullable = false)
+    private Long userId; // The user of the request
+
+    @Column(nullable = false)
+    private Long completionId; // The completion recorded for the request
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
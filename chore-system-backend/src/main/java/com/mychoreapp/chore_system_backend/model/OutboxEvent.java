@@ -0,0 +1,65 @@
+package com.mychoreapp.chore_system_backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event in the transactional outbox, written in the same transaction as the change it describes.
+ * Events are only inserted by the application; OutboxRelay reads them with SQL, together with the
+ * ID of the writing transaction (the txid column, filled in by the database and not mapped here).
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 64)
+    private OutboxEventType eventType; // What happened, and so what the payload holds
+
+    @Column(name = "tribe_id")
+    private Long tribeId; // The tribe the event belongs to, so sinks can route or filter without parsing the payload
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private String payload; // The event as JSON
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Constructor for creating a new outbox event.
+     * @param eventType What happened.
+     * @param tribeId The tribe the event belongs to.
+     * @param payload The event as JSON.
+     */
+    public OutboxEvent(final OutboxEventType eventType, final Long tribeId, final String payload) {
+        this.eventType = eventType;
+        this.tribeId = tribeId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
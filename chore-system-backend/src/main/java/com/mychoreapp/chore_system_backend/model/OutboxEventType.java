@@ -0,0 +1,10 @@
+package com.mychoreapp.chore_system_backend.model;
+
+/**
+ * The kinds of events written to the outbox, and what their payload is.
+ */
+public enum OutboxEventType {
+    CHORE_COMPLETED, // ChoreCompletedEvent
+    CHORE_CREATED, // ChoreSummary
+    USER_JOINED_TRIBE // userId, tribeId and displayName
+}
@@ -1,10 +1,12 @@
 package com.mychoreapp.chore_system_backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.Getter;
@@ -25,10 +27,12 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @ToString
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // Lets Jackson serialize lazy-loading proxies of this entity
 public class Tribe {
 
     @Id // Specifies the primary key
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-generated ID
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tribes_seq") // Auto-generated ID from a pooled sequence
+    @SequenceGenerator(name = "tribes_seq", sequenceName = "tribes_seq", allocationSize = 50)
     private Long id; // Unique identifier for the tribe
 
     @Column(nullable = false, unique = true) // Tribe name cannot be null and must be unique
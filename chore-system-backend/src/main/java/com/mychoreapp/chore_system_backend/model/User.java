@@ -1,13 +1,18 @@
 package com.mychoreapp.chore_system_backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Table;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -23,11 +28,13 @@ import lombok.ToString;
 @Getter // Lombok will automatically generate all getter methods for the fields
 @Setter // Lombok will automatically generate all setter methods for the fields
 @NoArgsConstructor // Lombok will automatically generate the default no-argument constructor (required by JPA)
-@ToString(exclude = "password") // Lombok will generate a toString() method, excluding the 'password' field for security
+@ToString(exclude = {"password", "tribe"}) // Lombok will generate a toString() method, excluding the 'password' field for security and the lazily loaded tribe
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // Lets Jackson serialize lazy-loading proxies of this entity
 public class User {
 
     @Id // Specifies the primary key of the entity
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Configures the primary key to be auto-generated by the database
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq") // IDs come from a pooled sequence so inserts can be batched
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id; // Unique identifier for the user
 
     @Column(unique = true, nullable = true) // Maps this field to a column in the database table
@@ -51,9 +58,13 @@ public class User {
 
     private int points;
 
-    @ManyToOne // Many Users can belong to One Tribe
+    @ManyToOne(fetch = FetchType.LAZY) // Many Users can belong to One Tribe; loaded on demand (see the entity graphs in IUserRepository)
     @JoinColumn(name = "tribe_id", nullable = true) // Specifies the foreign key column in the 'users' table
     private Tribe tribe; // The Tribe this user belongs to. Nullable if a user doesn't belong to a tribe yet.
+
+    @Version // Incremented on every update, including the atomic points increment; stale updates fail instead of overwriting newer changes
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY) // Managed by Hibernate, never taken from a request body
+    private Long version;
     
     /**
      * Constructor for creating a new User object with traditional username/password.
@@ -1,12 +1,25 @@
 package com.mychoreapp.chore_system_backend.repository;
 
+import com.mychoreapp.chore_system_backend.dto.ChoreCompletionSummary;
+import com.mychoreapp.chore_system_backend.dto.CompletionPoints;
 import com.mychoreapp.chore_system_backend.model.ChoreCompletion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for ChoreCompletion entities.
@@ -16,37 +29,129 @@ import java.util.Optional;
 @Repository // Marks this interface as a Spring Data JPA repository component
 public interface IChoreCompletionRepository extends JpaRepository<ChoreCompletion, Long> {
 
+    String EXPORT_FETCH_SIZE = "500"; // Rows fetched from the database per round trip when streaming an export
+
+    // Selects only the columns of a ChoreCompletionSummary; the chore and user are joined (by primary key) for their names
+    String SUMMARY_SELECT = "SELECT new com.mychoreapp.chore_system_backend.dto.ChoreCompletionSummary("
+            + "c.id, ch.id, ch.name, c.tribeId, u.id, COALESCE(u.username, u.name), c.completionDate, c.pointsAwarded) "
+            + "FROM ChoreCompletion c JOIN c.chore ch JOIN c.completedBy u ";
+
+    /**
+     * Finds a chore completion record by its ID, with its chore and user (and their tribes and the chore's assignee).
+     * @param id The ID of the chore completion record.
+     * @return An Optional containing the ChoreCompletion if found, or empty if not found.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"chore", "chore.tribe", "chore.assignedTo", "chore.assignedTo.tribe", "completedBy", "completedBy.tribe"})
+    Optional<ChoreCompletion> findById(Long id);
+
     /**
-     * Finds all chore completion records for a specific user.
+     * Finds the summaries of all chore completion records for a specific user.
      * @param completedByUserId The ID of the user who completed the chores.
-     * @return A list of ChoreCompletion records by the given user ID.
+     * @return A list of ChoreCompletionSummary records by the given user ID.
      */
-    List<ChoreCompletion> findByCompletedBy_Id(Long completedByUserId);
+    @Query(SUMMARY_SELECT + "WHERE u.id = :userId ORDER BY c.id")
+    List<ChoreCompletionSummary> findSummariesByCompletedBy_Id(@Param("userId") Long completedByUserId);
 
     /**
-     * Finds all chore completion records for a specific chore.
+     * Finds the summaries of all chore completion records for a specific chore.
      * @param choreId The ID of the chore that was completed.
-     * @return A list of ChoreCompletion records for the given chore ID.
+     * @return A list of ChoreCompletionSummary records for the given chore ID.
      */
-    List<ChoreCompletion> findByChore_Id(Long choreId);
+    @Query(SUMMARY_SELECT + "WHERE ch.id = :choreId ORDER BY c.id")
+    List<ChoreCompletionSummary> findSummariesByChore_Id(@Param("choreId") Long choreId);
 
     /**
-     * Finds all chore completion records for a specific tribe within a given time range.
-     * This method assumes that ChoreCompletion has a direct link to Chore, and Chore has a link to Tribe.
-     * Spring Data JPA can traverse these relationships.
+     * Finds the summaries of all chore completion records for a specific tribe within a given time range.
+     * Filters on the completion's own tribe_id column, so the range is read from a single index on chore_completions.
      * @param tribeId The ID of the tribe.
      * @param startDate The start date/time for the search range.
      * @param endDate The end date/time for the search range.
-     * @return A list of ChoreCompletion records for the given tribe within the date range.
+     * @return A list of ChoreCompletionSummary records for the given tribe within the date range.
      */
-    List<ChoreCompletion> findByChore_Tribe_IdAndCompletionDateBetween(Long tribeId, LocalDateTime startDate, LocalDateTime endDate);
+    @Query(SUMMARY_SELECT + "WHERE c.tribeId = :tribeId AND c.completionDate BETWEEN :startDate AND :endDate ORDER BY c.id")
+    List<ChoreCompletionSummary> findSummariesByTribeIdAndCompletionDateBetween(@Param("tribeId") Long tribeId,
+                                                                               @Param("startDate") LocalDateTime startDate,
+                                                                               @Param("endDate") LocalDateTime endDate);
 
     /**
-     * Finds chore completion records for a specific user within a given time range.
+     * Finds the summaries of chore completion records for a specific user within a given time range.
      * @param completedByUserId The ID of the user who completed the chores.
      * @param startDate The start date/time for the search range.
      * @param endDate The end date/time for the search range.
-     * @return A list of ChoreCompletion records by the given user within the date range.
+     * @return A list of ChoreCompletionSummary records by the given user within the date range.
+     */
+    @Query(SUMMARY_SELECT + "WHERE u.id = :userId AND c.completionDate BETWEEN :startDate AND :endDate ORDER BY c.id")
+    List<ChoreCompletionSummary> findSummariesByCompletedBy_IdAndCompletionDateBetween(@Param("userId") Long completedByUserId,
+                                                                                      @Param("startDate") LocalDateTime startDate,
+                                                                                      @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * Finds the points awarded for each completion of a tribe's chores since a given time.
+     * Only users who are still members of the tribe are included.
+     * Used to seed the daily, weekly and monthly leaderboards the first time they are requested; the completion IDs
+     * tell which completions the seeded board already counts.
+     * @param tribeId The ID of the tribe.
+     * @param since The start of the period (inclusive).
+     * @return One row per completion in the period.
+     */
+    @Query("SELECT c.id AS id, c.completedBy.id AS userId, c.completedBy.username AS username, c.completedBy.name AS name, "
+            + "c.pointsAwarded AS points FROM ChoreCompletion c "
+            + "WHERE c.tribeId = :tribeId AND c.completedBy.tribe.id = :tribeId AND c.completionDate >= :since")
+    List<CompletionPoints> findPointsByTribeIdSince(@Param("tribeId") Long tribeId, @Param("since") LocalDateTime since);
+
+    /**
+     * Finds one page of chore completion summaries after the given cursor, in ID order (see CursorPage).
+     * @param afterId The ID of the last chore completion on the previous page (0 for the first page).
+     * @param pageable The page size (the page number must be 0).
+     * @return A slice of at most {@code pageable.getPageSize()} chore completion summaries.
+     */
+    @Query(SUMMARY_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    Slice<ChoreCompletionSummary> findSummariesByIdGreaterThan(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Streams the chore completion records within a given time range, in ID order, for export.
+     * Rows are read through a server-side cursor {@value #EXPORT_FETCH_SIZE} at a time instead of being loaded all at once.
+     * The stream must be consumed (and closed) inside a transaction.
+     * @param startDate The start date/time of the range (inclusive).
+     * @param endDate The end date/time of the range (inclusive).
+     * @return A stream of ChoreCompletion records with their chore and user fetched.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM ChoreCompletion c JOIN FETCH c.chore JOIN FETCH c.completedBy "
+            + "WHERE c.completionDate BETWEEN :startDate AND :endDate ORDER BY c.id")
+    Stream<ChoreCompletion> streamByCompletionDateBetween(@Param("startDate") LocalDateTime startDate,
+                                                         @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * Streams the chore completion records for a specific tribe within a given time range, in ID order, for export.
+     * Rows are read through a server-side cursor {@value #EXPORT_FETCH_SIZE} at a time instead of being loaded all at once.
+     * The stream must be consumed (and closed) inside a transaction.
+     * @param tribeId The ID of the tribe.
+     * @param startDate The start date/time of the range (inclusive).
+     * @param endDate The end date/time of the range (inclusive).
+     * @return A stream of ChoreCompletion records with their chore and user fetched.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM ChoreCompletion c JOIN FETCH c.chore JOIN FETCH c.completedBy "
+            + "WHERE c.tribeId = :tribeId AND c.completionDate BETWEEN :startDate AND :endDate ORDER BY c.id")
+    Stream<ChoreCompletion> streamByTribeAndCompletionDateBetween(@Param("tribeId") Long tribeId,
+                                                                 @Param("startDate") LocalDateTime startDate,
+                                                                 @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * Deletes a chore completion record with a single DELETE, without loading it first (as deleteById would).
+     * @param id The ID of the chore completion record.
+     * @return The number of deleted records: 1, or 0 if it does not exist.
      */
-    List<ChoreCompletion> findByCompletedBy_IdAndCompletionDateBetween(Long completedByUserId, LocalDateTime startDate, LocalDateTime endDate);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChoreCompletion c WHERE c.id = :id")
+    int deleteCompletionById(@Param("id") Long id);
 }
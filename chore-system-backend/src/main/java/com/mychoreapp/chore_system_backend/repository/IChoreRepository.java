@@ -1,9 +1,23 @@
 package com.mychoreapp.chore_system_backend.repository;
 
+import com.mychoreapp.chore_system_backend.dto.ChoreReminder;
+import com.mychoreapp.chore_system_backend.dto.ChoreSummary;
 import com.mychoreapp.chore_system_backend.model.Chore;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,34 +30,61 @@ import java.util.Optional;
 public interface IChoreRepository extends JpaRepository<Chore, Long> {
 
     /**
-     * Finds all chores belonging to a specific tribe.
+     * Finds a chore by its ID, with its tribe and assigned user (and that user's tribe).
+     * @param id The ID of the chore.
+     * @return An Optional containing the Chore if found, or empty if not found.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"tribe", "assignedTo", "assignedTo.tribe"})
+    Optional<Chore> findById(Long id);
+
+    /**
+     * Finds the chores with the given IDs, with their tribes and assigned users (and those users' tribes).
+     * @param ids The IDs of the chores.
+     * @return The chores found; missing IDs are skipped.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"tribe", "assignedTo", "assignedTo.tribe"})
+    List<Chore> findAllById(Iterable<Long> ids);
+
+    // Selects only the columns of a ChoreSummary; the assigned user is joined for its display name, the tribe ID is read from the chore
+    String SUMMARY_SELECT = "SELECT new com.mychoreapp.chore_system_backend.dto.ChoreSummary("
+            + "c.id, c.name, c.description, c.pointsValue, c.dueDate, c.isRecurring, c.recurrencePattern, c.isActive, "
+            + "c.tribe.id, a.id, COALESCE(a.username, a.name)) "
+            + "FROM Chore c LEFT JOIN c.assignedTo a ";
+
+    /**
+     * Finds the summaries of all chores belonging to a specific tribe.
      * @param tribeId The ID of the tribe.
-     * @return A list of chores associated with the given tribe ID.
+     * @return A list of chore summaries associated with the given tribe ID.
      */
-    List<Chore> findByTribeId(Long tribeId);
+    @Query(SUMMARY_SELECT + "WHERE c.tribe.id = :tribeId ORDER BY c.id")
+    List<ChoreSummary> findSummariesByTribeId(@Param("tribeId") Long tribeId);
 
     /**
-     * Finds all active chores belonging to a specific tribe.
+     * Finds the summaries of all active chores belonging to a specific tribe.
+     * The active filter is a literal rather than a parameter so the partial index on active chores always applies.
      * @param tribeId The ID of the tribe.
-     * @param isActive A boolean indicating if the chore should be active (true) or inactive (false).
-     * @return A list of active chores associated with the given tribe ID.
+     * @return A list of active chore summaries associated with the given tribe ID.
      */
-    List<Chore> findByTribeIdAndIsActive(Long tribeId, boolean isActive);
+    @Query(SUMMARY_SELECT + "WHERE c.tribe.id = :tribeId AND c.isActive = true ORDER BY c.id")
+    List<ChoreSummary> findActiveSummariesByTribeId(@Param("tribeId") Long tribeId);
 
     /**
-     * Finds all chores currently assigned to a specific user.
+     * Finds the summaries of all chores currently assigned to a specific user.
      * @param assignedToId The ID of the user to whom chores are assigned.
-     * @return A list of chores assigned to the given user ID.
+     * @return A list of chore summaries assigned to the given user ID.
      */
-    List<Chore> findByAssignedToId(Long assignedToId);
+    @Query(SUMMARY_SELECT + "WHERE a.id = :assignedToId ORDER BY c.id")
+    List<ChoreSummary> findSummariesByAssignedToId(@Param("assignedToId") Long assignedToId);
 
     /**
-     * Finds all active chores currently assigned to a specific user.
+     * Finds the summaries of all active chores currently assigned to a specific user.
      * @param assignedToId The ID of the user to whom chores are assigned.
-     * @param isActive A boolean indicating if the chore should be active (true) or inactive (false).
-     * @return A list of active chores assigned to the given user ID.
+     * @return A list of active chore summaries assigned to the given user ID.
      */
-    List<Chore> findByAssignedToIdAndIsActive(Long assignedToId, boolean isActive);
+    @Query(SUMMARY_SELECT + "WHERE a.id = :assignedToId AND c.isActive = true ORDER BY c.id")
+    List<ChoreSummary> findActiveSummariesByAssignedToId(@Param("assignedToId") Long assignedToId);
 
     /**
      * Finds a chore by its name and the ID of the tribe it belongs to.
@@ -53,4 +94,55 @@ public interface IChoreRepository extends JpaRepository<Chore, Long> {
      * @return An Optional containing the Chore if found, or empty if not found.
      */
     Optional<Chore> findByNameAndTribeId(String name, Long tribeId);
+
+    /**
+     * Finds one page of chore summaries after the given cursor, in ID order (see CursorPage).
+     * @param afterId The ID of the last chore on the previous page (0 for the first page).
+     * @param pageable The page size (the page number must be 0).
+     * @return A slice of at most {@code pageable.getPageSize()} chore summaries.
+     */
+    @Query(SUMMARY_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    Slice<ChoreSummary> findSummariesByIdGreaterThan(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Finds the reminders for the active, assigned chores due on a given day, in chore ID order.
+     * Used to load the reminder wheel one day at a time, in keyset batches.
+     * @param dueDate The due date.
+     * @param afterId The ID of the last chore of the previous batch (0 for the first batch).
+     * @param pageable The batch size (the page number must be 0).
+     * @return A slice of at most {@code pageable.getPageSize()} reminders.
+     */
+    @Query("SELECT new com.mychoreapp.chore_system_backend.dto.ChoreReminder("
+            + "c.id, c.name, c.tribe.id, a.id, COALESCE(a.username, a.name), c.dueDate) "
+            + "FROM Chore c JOIN c.assignedTo a "
+            + "WHERE c.dueDate = :dueDate AND c.isActive = true AND c.id > :afterId ORDER BY c.id")
+    Slice<ChoreReminder> findRemindersByDueDate(@Param("dueDate") LocalDate dueDate, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Deactivates the completed recurring chores among the given chores and marks them as awaiting their next instance,
+     * which RecurringChoreService creates. Only active chores are changed, so a chore can be completed once per cycle.
+     * The version is incremented, so an edit based on the chore as it was before the completion is rejected.
+     * @param ids The IDs of the completed recurring chores.
+     * @return The number of chores deactivated; fewer than the given IDs if some were no longer active.
+     */
+    @Modifying
+    @Query("UPDATE Chore c SET c.isActive = false, c.nextInstancePending = true, c.version = c.version + 1 "
+            + "WHERE c.id IN :ids AND c.isActive = true")
+    int deactivateCompletedRecurringChores(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the recurring chores that are ready to advance to their next cycle, in ID order:
+     * those that have been completed (and so deactivated), and active ones whose due date has passed without a completion.
+     * The chores are locked for update; chores already locked by another transaction are skipped.
+     * The recurring, active and pending filters are literals so the partial index on chores to advance applies.
+     * @param afterId The ID of the last chore of the previous batch (0 for the first batch).
+     * @param today The current date; chores due before it are overdue.
+     * @param pageable The batch size (the page number must be 0).
+     * @return At most {@code pageable.getPageSize()} chores.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // -2 = SKIP LOCKED
+    @Query("SELECT c FROM Chore c WHERE c.isRecurring = true AND (c.isActive = true OR c.nextInstancePending = true) "
+            + "AND c.id > :afterId AND (c.nextInstancePending = true OR c.dueDate < :today) ORDER BY c.id")
+    List<Chore> findRecurringChoresToAdvance(@Param("afterId") Long afterId, @Param("today") LocalDate today, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.mychoreapp.chore_system_backend.repository;
+
+import com.mychoreapp.chore_system_backend.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for IdempotencyKey entities.
+ */
+@Repository
+public interface IIdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Stores the outcome of a request under its idempotency key with a single INSERT, unless the key is taken.
+     * A key created before the cutoff has expired and is taken over.
+     * If another transaction has inserted the same key and not committed yet, this waits for it to finish;
+     * so a key is only ever stored by one of several concurrent requests.
+     * @param key The idempotency key.
+     * @param choreId The chore of the request.
+     * @param userId The user of the request.
+     * @param completionId The completion recorded for the request.
+     * @param now The time the key is stored at.
+     * @param cutoff Keys created before this time have expired.
+     * @return An Optional containing the key if it was stored, or empty if it is taken.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, chore_id, user_id, completion_id, created_at) "
+            + "VALUES (:key, :choreId, :userId, :completionId, :now) "
+            + "ON CONFLICT (idempotency_key) DO UPDATE SET chore_id = EXCLUDED.chore_id, user_id = EXCLUDED.user_id, "
+            + "completion_id = EXCLUDED.completion_id, created_at = EXCLUDED.created_at "
+            + "WHERE idempotency_keys.created_at < :cutoff "
+            + "RETURNING idempotency_key", nativeQuery = true)
+    Optional<String> insertIfAbsent(@Param("key") final String key, @Param("choreId") final Long choreId,
+                                    @Param("userId") final Long userId, @Param("completionId") final Long completionId,
+                                    @Param("now") final LocalDateTime now, @Param("cutoff") final LocalDateTime cutoff);
+
+    /**
+     * Deletes the keys created before a cutoff with a single DELETE.
+     * @param cutoff Keys created before this time are deleted.
+     * @return The number of deleted keys.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") final LocalDateTime cutoff);
+}
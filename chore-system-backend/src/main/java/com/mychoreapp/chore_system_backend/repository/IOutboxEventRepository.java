@@ -0,0 +1,13 @@
+package com.mychoreapp.chore_system_backend.repository;
+
+import com.mychoreapp.chore_system_backend.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for writing OutboxEvent entities.
+ * Events are read and deleted by OutboxRelay with SQL, as that needs the writing transaction's ID.
+ */
+@Repository
+public interface IOutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
@@ -1,6 +1,10 @@
 package com.mychoreapp.chore_system_backend.repository;
 
+import com.mychoreapp.chore_system_backend.config.CacheConfig;
 import com.mychoreapp.chore_system_backend.model.Tribe;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
@@ -14,18 +18,32 @@ import java.util.List;
 @Repository
 public interface ITribeRepository extends JpaRepository<Tribe, Long> {
 
+    /**
+     * Finds a Tribe by its ID.
+     * Results are cached; EntityCacheService evicts the entry whenever the tribe changes.
+     * @param id The ID of the tribe.
+     * @return An Optional containing the Tribe if found, or empty if not found.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.TRIBES_BY_ID, unless = "#result == null")
+    Optional<Tribe> findById(final Long id);
+
     /**
      * Finds a Tribe by its name.
+     * Results are cached; EntityCacheService evicts the entry whenever the tribe changes.
      * @param name The name to search for.
      * @return An Optional containing the Tribe if found, or empty if not found.
      */
+    @Cacheable(cacheNames = CacheConfig.TRIBES_BY_NAME, unless = "#result == null")
     Optional<Tribe> findByName(final String name);
 
     /**
      * Finds a Tribe by its join code.
+     * Results are cached; EntityCacheService evicts the entry whenever the tribe changes.
      * @param joinCode The join code to search for.
      * @return An Optional containing the Tribe if found, or empty if not found.
      */
+    @Cacheable(cacheNames = CacheConfig.TRIBES_BY_JOIN_CODE, unless = "#result == null")
     Optional<Tribe> findByJoinCode(final String joinCode);
 
     /**
@@ -34,4 +52,11 @@ public interface ITribeRepository extends JpaRepository<Tribe, Long> {
      */
     List<Tribe> findAll();
 
+    /**
+     * Finds one page of tribes after the given cursor, in ID order (see CursorPage).
+     * @param afterId The ID of the last tribe on the previous page (0 for the first page).
+     * @param pageable The page size (the page number must be 0).
+     * @return A slice of at most {@code pageable.getPageSize()} tribes.
+     */
+    Slice<Tribe> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
\ No newline at end of file
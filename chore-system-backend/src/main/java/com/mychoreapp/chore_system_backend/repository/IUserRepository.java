@@ -1,8 +1,17 @@
 package com.mychoreapp.chore_system_backend.repository;
 
+import com.mychoreapp.chore_system_backend.config.CacheConfig;
 import com.mychoreapp.chore_system_backend.model.User;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,12 +24,46 @@ import java.util.Optional;
 @Repository // Marks this interface as a Spring Data JPA repository component
 public interface IUserRepository extends JpaRepository<User, Long> { 
 
+    /**
+     * Finds a User by their ID.
+     * Results are cached; EntityCacheService evicts the entry whenever the user changes.
+     * Cached users are detached, so they are shared between requests and must not be modified without evicting them.
+     * @param id The ID of the user.
+     * The tribe is fetched in the same query, since cached users outlive the session that loaded them.
+     * @return An Optional containing the User if found, or empty if not found.
+     */
+    @Override
+    @EntityGraph(attributePaths = "tribe")
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, unless = "#result == null")
+    Optional<User> findById(final Long id);
+
+    /**
+     * Finds a User by their ID, with their tribe, bypassing the cache.
+     * Used by read-modify-write updates, which must start from the current row and version rather than a shared cached copy.
+     * @param id The ID of the user.
+     * @return An Optional containing the User if found, or empty if not found.
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.tribe WHERE u.id = :id")
+    Optional<User> findCurrentById(@Param("id") final Long id);
+
+    /**
+     * Finds the users with the given IDs, with their tribes.
+     * @param ids The IDs of the users.
+     * @return The users found; missing IDs are skipped.
+     */
+    @Override
+    @EntityGraph(attributePaths = "tribe")
+    List<User> findAllById(final Iterable<Long> ids);
+
     /**
      * Finds a User by their username.
      * Spring Data JPA automatically generates the query based on the method name.
+     * Results are cached; EntityCacheService evicts the entry whenever the user changes.
      * @param username The username to search for.
      * @return An Optional containing the User if found, or empty if not found.
      */
+    @EntityGraph(attributePaths = "tribe")
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_USERNAME, unless = "#result == null")
     Optional<User> findByUsername(final String username);
 
     /**
@@ -29,13 +72,48 @@ public interface IUserRepository extends JpaRepository<User, Long> {
      * @param googleId The Google ID to search for.
      * @return An Optional containing the User if found, or empty if not found.
      */
+    @EntityGraph(attributePaths = "tribe")
     Optional<User> findByGoogleId(final String googleId);
 
     /**
      * Finds a User by their email address.
      * Useful for checking if a user (either basic or SSO) already exists with a given email.
+     * Results are cached; EntityCacheService evicts the entry whenever the user changes.
      * @param email The email address to search for.
      * @return An Optional containing the User if found, or empty if not found.
      */
+    @EntityGraph(attributePaths = "tribe")
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, unless = "#result == null")
     Optional<User> findByEmail(final String email);
+
+    /**
+     * Finds all users belonging to a specific tribe.
+     * Used to build a tribe's leaderboard the first time it is requested; the tribe itself is not loaded.
+     * @param tribeId The ID of the tribe.
+     * @return A list of users in the given tribe.
+     */
+    List<User> findByTribeId(final Long tribeId);
+
+    /**
+     * Atomically adds points to a user's total with a single UPDATE, without loading the user.
+     * The increment happens in the database, so concurrent awards to the same user are never lost.
+     * The version is incremented too, so a concurrent read-modify-write of the user fails its optimistic lock
+     * check instead of writing back the old total.
+     * Note: a User already loaded in the current persistence context is not refreshed by this call.
+     * @param id The ID of the user.
+     * @param delta The number of points to add.
+     * @return An Optional containing the user's new point total, or empty if the user does not exist.
+     */
+    @Transactional
+    @Query(value = "UPDATE users SET points = points + :delta, version = version + 1 WHERE id = :id RETURNING points", nativeQuery = true)
+    Optional<Integer> incrementPoints(@Param("id") final Long id, @Param("delta") final int delta);
+
+    /**
+     * Finds one page of users, with their tribes, after the given cursor, in ID order (see CursorPage).
+     * @param afterId The ID of the last user on the previous page (0 for the first page).
+     * @param pageable The page size (the page number must be 0).
+     * @return A slice of at most {@code pageable.getPageSize()} users, with their tribes.
+     */
+    @EntityGraph(attributePaths = "tribe")
+    Slice<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -1,62 +1,140 @@
 package com.mychoreapp.chore_system_backend.service;
 
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.dto.ChoreCompletedEvent;
+import com.mychoreapp.chore_system_backend.dto.ChoreCompletionRequest;
+import com.mychoreapp.chore_system_backend.dto.ChoreCompletionSummary;
+import com.mychoreapp.chore_system_backend.dto.CursorPage;
 import com.mychoreapp.chore_system_backend.model.Chore;
 import com.mychoreapp.chore_system_backend.model.ChoreCompletion;
+import com.mychoreapp.chore_system_backend.model.OutboxEventType;
 import com.mychoreapp.chore_system_backend.model.User;
 import com.mychoreapp.chore_system_backend.repository.IChoreCompletionRepository;
 import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
 import com.mychoreapp.chore_system_backend.repository.IUserRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing ChoreCompletion-related business logic.
  * Handles recording chore completions, awarding points, and retrieving completion records.
- * Now includes logic for handling recurring chores.
- * a new instance is created for the next cycle, and the original completed instance is set to inactive.
+ * Completing a recurring chore deactivates it, so it cannot be completed again in the same cycle;
+ * RecurringChoreService creates its next instance in the background.
+ * Recorded completions are counted per tribe (metric chores.completions), and a ChoreCompletedEvent is published
+ * for each of them once the transaction commits.
  */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
 @Service
 public class ChoreCompletionService {
 
+    private static final int EXPORT_CLEAR_INTERVAL = 500; // Records exported between persistence context clears
+
     private final IChoreCompletionRepository choreCompletionRepository;
     private final IChoreRepository choreRepository;
     private final IUserRepository userRepository;
+    private final LeaderboardService leaderboardService;
+    private final EntityManager entityManager;
+    private final EntityCacheService entityCacheService;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final IdempotencyService idempotencyService;
+    private final ChoreReminderService choreReminderService;
 
     /**
      * Constructor for dependency injection.
-     * Spring automatically injects instances of the required repositories.
+     * Spring automatically injects instances of the required repositories and services.
      * @param choreCompletionRepository The chore completion repository to be injected.
      * @param choreRepository The chore repository to be injected.
      * @param userRepository The user repository to be injected.
+     * @param leaderboardService The leaderboard service to be injected.
+     * @param entityManager The shared entity manager, used to detach users whose points were updated in the database.
+     * @param entityCacheService The service used to evict cached user lookups once points change.
+     * @param meterRegistry The registry the completion counters are recorded in.
+     * @param eventPublisher The publisher of the ChoreCompletedEvents.
+     * @param outboxService The service the completions are written to the outbox with.
+     * @param idempotencyService The service the idempotency keys of completions are stored with.
+     * @param choreReminderService The service whose reminders for deactivated recurring chores are cancelled.
      */
     @Autowired
     public ChoreCompletionService(
             final IChoreCompletionRepository choreCompletionRepository,
             final IChoreRepository choreRepository,
-            final IUserRepository userRepository) {
+            final IUserRepository userRepository,
+            final LeaderboardService leaderboardService,
+            final EntityManager entityManager,
+            final EntityCacheService entityCacheService,
+            final MeterRegistry meterRegistry,
+            final ApplicationEventPublisher eventPublisher,
+            final OutboxService outboxService,
+            final IdempotencyService idempotencyService,
+            final ChoreReminderService choreReminderService) {
         this.choreCompletionRepository = choreCompletionRepository;
         this.choreRepository = choreRepository;
         this.userRepository = userRepository;
+        this.leaderboardService = leaderboardService;
+        this.entityManager = entityManager;
+        this.entityCacheService = entityCacheService;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.outboxService = outboxService;
+        this.idempotencyService = idempotencyService;
+        this.choreReminderService = choreReminderService;
     }
 
     /**
      * Records a chore completion and awards points to the completing user.
      * This operation is transactional to ensure atomicity (either both completion is saved and points are updated, or neither).
-     * For recurring chores, a new instance of the chore is created for the next cycle,
-     * and the original completed chore instance is marked as inactive.
+     * Only the completion is inserted and the points are updated; a completed recurring chore is also deactivated,
+     * and its next instance is created shortly afterwards by RecurringChoreService.
      * @param choreId The ID of the chore that was completed.
      * @param completedByUserId The ID of the user who completed the chore.
      * @return The created ChoreCompletion record.
-     * @throws IllegalArgumentException if the chore or user is not found, or if the user is not in the chore's tribe.
+     * @throws IllegalArgumentException if the chore or user is not found, if the user is not in the chore's tribe,
+     * or if the chore is recurring and was already completed in its current cycle.
      */
     @Transactional
     public ChoreCompletion recordChoreCompletion(final Long choreId, final Long completedByUserId) {
+        return recordChoreCompletion(choreId, completedByUserId, null);
+    }
+
+    /**
+     * Records a chore completion and awards points to the completing user, like recordChoreCompletion(choreId, userId),
+     * and stores the completion under the request's idempotency key in the same transaction.
+     * The key should have been looked up first (IdempotencyService.findCompletionId); this only guards against
+     * a concurrent request with the same key.
+     * @param choreId The ID of the chore that was completed.
+     * @param completedByUserId The ID of the user who completed the chore.
+     * @param idempotencyKey The request's idempotency key, or null if it has none.
+     * @return The created ChoreCompletion record.
+     * @throws IllegalArgumentException if the chore or user is not found, if the user is not in the chore's tribe,
+     * if the chore is recurring and was already completed in its current cycle, or if the idempotency key is invalid.
+     * @throws DuplicateRequestException if a concurrent request has stored the same idempotency key; nothing is recorded.
+     */
+    @Transactional
+    public ChoreCompletion recordChoreCompletion(final Long choreId, final Long completedByUserId, final String idempotencyKey) {
         // Validate Chore existence
         final Chore chore = validateChore(choreId);
 
@@ -67,20 +145,109 @@ public class ChoreCompletionService {
         if (user.getTribe() == null || !user.getTribe().getId().equals(chore.getTribe().getId())) {
             throw new IllegalArgumentException("User must belong to the same tribe as the chore to complete it.");
         }
+        validateNotCompletedInCycle(chore);
 
         // Create ChoreCompletion record
         final ChoreCompletion completion = new ChoreCompletion(chore, user, chore.getPointsValue());
         final ChoreCompletion savedCompletion = choreCompletionRepository.save(completion);
+        if (idempotencyKey != null) {
+            idempotencyService.claimKey(idempotencyKey, choreId, completedByUserId, savedCompletion.getId());
+        }
+        deactivateRecurringChores(List.of(chore));
 
         // Award points to the user
-        updateUserPoints(user, chore.getPointsValue());
-
-        // Handle Recurring Chores: Create a new instance for the next cycle
-        handleRecurringChore(chore);
+        final int userPoints = updateUserPoints(user, chore.getPointsValue());
+        leaderboardService.recordCompletionPoints(chore.getTribe().getId(), savedCompletion.getId(), user, chore.getPointsValue(),
+                savedCompletion.getCompletionDate());
+        countCompletions(chore.getTribe().getId(), 1);
+        publishCompleted(savedCompletion, userPoints);
 
         return savedCompletion;
     }
 
+    /**
+     * Records a batch of chore completions in one transaction, e.g. when an offline client syncs.
+     * All chores and users are loaded with one IN-query per entity type, the completions are inserted
+     * with JDBC batching, and each user's points are increased once by the sum of their completions.
+     * As with single completions, recurring chores are deactivated, and advanced to their next cycle in the background;
+     * a batch can therefore complete each recurring chore only once.
+     * The batch is all-or-nothing: if any completion is invalid, nothing is recorded.
+     * @param requests The completions to record.
+     * @return The created ChoreCompletion records, in request order.
+     * @throws IllegalArgumentException if the batch is empty, a chore or user is not found, a user is not in the
+     * chore's tribe, a recurring chore was already completed in its current cycle (or is completed twice in the batch),
+     * or a completion date lies in the future.
+     */
+    @Transactional
+    public List<ChoreCompletion> recordChoreCompletions(final List<ChoreCompletionRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one chore completion must be provided.");
+        }
+
+        // Load every referenced chore and user with a single query per entity type
+        final Set<Long> choreIds = new HashSet<>();
+        final Set<Long> userIds = new HashSet<>();
+        for (final ChoreCompletionRequest request : requests) {
+            if (request.choreId() == null || request.userId() == null) {
+                throw new IllegalArgumentException("Chore ID and user ID are required for every completion.");
+            }
+            choreIds.add(request.choreId());
+            userIds.add(request.userId());
+        }
+        final Map<Long, Chore> chores = choreRepository.findAllById(choreIds).stream()
+                .collect(Collectors.toMap(Chore::getId, Function.identity()));
+        final Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // Validate every completion before writing anything
+        final LocalDateTime now = LocalDateTime.now();
+        final List<ChoreCompletion> completions = new ArrayList<>(requests.size());
+        final Map<Long, Integer> pointsByUser = new LinkedHashMap<>(); // userId -> summed points
+        final Map<Long, Chore> recurringChores = new LinkedHashMap<>(); // choreId -> completed recurring chore
+        for (final ChoreCompletionRequest request : requests) {
+            final Chore chore = chores.get(request.choreId());
+            if (chore == null) {
+                throw new IllegalArgumentException("Chore with ID " + request.choreId() + " not found.");
+            }
+            final User user = users.get(request.userId());
+            if (user == null) {
+                throw new IllegalArgumentException("User with ID " + request.userId() + " not found.");
+            }
+            if (user.getTribe() == null || !user.getTribe().getId().equals(chore.getTribe().getId())) {
+                throw new IllegalArgumentException("User must belong to the same tribe as the chore to complete it.");
+            }
+            validateNotCompletedInCycle(chore);
+            if (chore.isRecurring() && recurringChores.put(chore.getId(), chore) != null) {
+                throw new IllegalArgumentException("Recurring chore with ID " + chore.getId() + " can only be completed once per cycle.");
+            }
+            final LocalDateTime completionDate = request.completionDate() == null ? now : request.completionDate();
+            if (completionDate.isAfter(now)) {
+                throw new IllegalArgumentException("Completion date cannot be in the future.");
+            }
+
+            completions.add(new ChoreCompletion(chore, user, chore.getPointsValue(), completionDate));
+            pointsByUser.merge(user.getId(), chore.getPointsValue(), Integer::sum);
+        }
+
+        // Insert all completions; Hibernate groups them into JDBC batches
+        final List<ChoreCompletion> savedCompletions = choreCompletionRepository.saveAll(completions);
+        deactivateRecurringChores(recurringChores.values());
+
+        // Award each user the sum of their points with a single UPDATE
+        final Map<Long, Integer> userPoints = new HashMap<>(); // userId -> points total after the batch
+        pointsByUser.forEach((userId, points) -> userPoints.put(userId, updateUserPoints(users.get(userId), points)));
+        final Map<Long, Integer> completionsByTribe = new LinkedHashMap<>(); // tribeId -> number of completions
+        for (final ChoreCompletion completion : savedCompletions) {
+            leaderboardService.recordCompletionPoints(completion.getChore().getTribe().getId(), completion.getId(),
+                    completion.getCompletedBy(), completion.getPointsAwarded(), completion.getCompletionDate());
+            completionsByTribe.merge(completion.getChore().getTribe().getId(), 1, Integer::sum);
+            publishCompleted(completion, userPoints.get(completion.getCompletedBy().getId()));
+        }
+        completionsByTribe.forEach(this::countCompletions);
+
+        return savedCompletions;
+    }
+
     /**
      * Retrieves a chore completion record by its ID.
      * @param id The ID of the chore completion record to retrieve.
@@ -93,19 +260,19 @@ public class ChoreCompletionService {
     /**
      * Retrieves all chore completion records for a specific user.
      * @param userId The ID of the user.
-     * @return A list of ChoreCompletion records completed by the specified user.
+     * @return A list of summaries of the ChoreCompletion records completed by the specified user.
      */
-    public List<ChoreCompletion> getChoreCompletionsByUser(final Long userId) {
-        return choreCompletionRepository.findByCompletedBy_Id(userId);
+    public List<ChoreCompletionSummary> getChoreCompletionsByUser(final Long userId) {
+        return choreCompletionRepository.findSummariesByCompletedBy_Id(userId);
     }
 
     /**
      * Retrieves all chore completion records for a specific chore.
      * @param choreId The ID of the chore.
-     * @return A list of ChoreCompletion records for the specified chore.
+     * @return A list of summaries of the ChoreCompletion records for the specified chore.
      */
-    public List<ChoreCompletion> getChoreCompletionsByChore(final Long choreId) {
-        return choreCompletionRepository.findByChore_Id(choreId);
+    public List<ChoreCompletionSummary> getChoreCompletionsByChore(final Long choreId) {
+        return choreCompletionRepository.findSummariesByChore_Id(choreId);
     }
 
     /**
@@ -113,10 +280,10 @@ public class ChoreCompletionService {
      * @param tribeId The ID of the tribe.
      * @param startDate The start date/time for the search range.
      * @param endDate The end date/time for the search range.
-     * @return A list of ChoreCompletion records for the given tribe within the date range.
+     * @return A list of summaries of the ChoreCompletion records for the given tribe within the date range.
      */
-    public List<ChoreCompletion> getChoreCompletionsByTribeAndDateRange(final Long tribeId, final LocalDateTime startDate, final LocalDateTime endDate) {
-        return choreCompletionRepository.findByChore_Tribe_IdAndCompletionDateBetween(tribeId, startDate, endDate);
+    public List<ChoreCompletionSummary> getChoreCompletionsByTribeAndDateRange(final Long tribeId, final LocalDateTime startDate, final LocalDateTime endDate) {
+        return choreCompletionRepository.findSummariesByTribeIdAndCompletionDateBetween(tribeId, startDate, endDate);
     }
 
     /**
@@ -124,18 +291,46 @@ public class ChoreCompletionService {
      * @param userId The ID of the user.
      * @param startDate The start date/time for the search range.
      * @param endDate The end date/time for the search range.
-     * @return A list of ChoreCompletion records by the given user within the date range.
+     * @return A list of summaries of the ChoreCompletion records by the given user within the date range.
+     */
+    public List<ChoreCompletionSummary> getChoreCompletionsByUserAndDateRange(final Long userId, final LocalDateTime startDate, final LocalDateTime endDate) {
+        return choreCompletionRepository.findSummariesByCompletedBy_IdAndCompletionDateBetween(userId, startDate, endDate);
+    }
+
+    /**
+     * Retrieves one page of all chore completion records in the system (for administrative purposes), in ID order.
+     * @param afterId The ID of the last completion on the previous page (0 for the first page).
+     * @param size The maximum number of completions on the page.
+     * @return A page of chore completion summaries with the cursor for the next page.
      */
-    public List<ChoreCompletion> getChoreCompletionsByUserAndDateRange(final Long userId, final LocalDateTime startDate, final LocalDateTime endDate) {
-        return choreCompletionRepository.findByCompletedBy_IdAndCompletionDateBetween(userId, startDate, endDate);
+    public CursorPage<ChoreCompletionSummary> getAllChoreCompletions(final Long afterId, final int size) {
+        return CursorPage.of(choreCompletionRepository.findSummariesByIdGreaterThan(afterId, PageRequest.of(0, size)), ChoreCompletionSummary::id);
     }
 
     /**
-     * Retrieves all chore completion records in the system (for administrative purposes).
-     * @return A list of all ChoreCompletion objects.
+     * Exports the chore completion records within a given time range, optionally for a single tribe, in ID order.
+     * Records are streamed from a database cursor and handed to {@code sink} one at a time, and the persistence
+     * context is cleared every {@value #EXPORT_CLEAR_INTERVAL} records, so memory use does not grow with the export size.
+     * @param tribeId The ID of the tribe to export, or null to export every tribe.
+     * @param startDate The start date/time of the range (inclusive).
+     * @param endDate The end date/time of the range (inclusive).
+     * @param sink Receives each exported record.
      */
-    public List<ChoreCompletion> getAllChoreCompletions() {
-        return choreCompletionRepository.findAll();
+    @Transactional(readOnly = true)
+    public void exportChoreCompletions(final Long tribeId, final LocalDateTime startDate, final LocalDateTime endDate,
+                                       final Consumer<ChoreCompletionSummary> sink) {
+        try (Stream<ChoreCompletion> completions = tribeId != null
+                ? choreCompletionRepository.streamByTribeAndCompletionDateBetween(tribeId, startDate, endDate)
+                : choreCompletionRepository.streamByCompletionDateBetween(startDate, endDate)) {
+            final Iterator<ChoreCompletion> iterator = completions.iterator();
+            int exported = 0;
+            while (iterator.hasNext()) {
+                sink.accept(ChoreCompletionSummary.from(iterator.next()));
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear(); // Drop the records already written so the persistence context stays small
+                }
+            }
+        }
     }
 
     /**
@@ -143,9 +338,10 @@ public class ChoreCompletionService {
      * Note: Deleting a completion record does NOT automatically deduct points from the user.
      * If point deduction is required, it must be handled separately.
      * @param id The ID of the chore completion record to delete.
+     * @return True if the record was deleted, false if it does not exist.
      */
-    public void deleteChoreCompletion(final Long id) {
-        choreCompletionRepository.deleteById(id);
+    public boolean deleteChoreCompletion(final Long id) {
+        return choreCompletionRepository.deleteCompletionById(id) > 0;
     }
 
     /**
@@ -161,13 +357,51 @@ public class ChoreCompletionService {
         return choreOptional.get();
     }
 
+    /**
+     * Validates that a chore can be completed: a recurring chore only once per cycle, while it is active.
+     * @param chore The chore to be completed.
+     * @throws IllegalArgumentException if the chore is recurring and no longer active.
+     */
+    private void validateNotCompletedInCycle(final Chore chore) {
+        if (chore.isRecurring() && !chore.isActive()) {
+            throw new IllegalArgumentException("Recurring chore with ID " + chore.getId() + " was already completed in its current cycle.");
+        }
+    }
+
+    /**
+     * Deactivates the completed recurring chores with a single UPDATE, and marks them as awaiting their next instance.
+     * The UPDATE only changes chores that are still active, so of concurrent completions of the same chore, one succeeds.
+     * The chores are detached and given their new state for the response, like users in updateUserPoints.
+     * Their reminders are cancelled, as they are done for this cycle; the next instance gets its own.
+     * @param chores The completed chores; those that are not recurring are skipped.
+     * @throws IllegalArgumentException if a recurring chore was deactivated by a concurrent completion.
+     */
+    private void deactivateRecurringChores(final Collection<Chore> chores) {
+        final List<Chore> recurring = chores.stream().filter(Chore::isRecurring).toList();
+        if (recurring.isEmpty()) {
+            return;
+        }
+        final int deactivated = choreRepository.deactivateCompletedRecurringChores(recurring.stream().map(Chore::getId).toList());
+        if (deactivated < recurring.size()) {
+            throw new IllegalArgumentException("Recurring chore was already completed in its current cycle.");
+        }
+        for (final Chore chore : recurring) {
+            entityManager.detach(chore); // So the stale state on it is not written back
+            chore.setActive(false);
+            chore.setNextInstancePending(true);
+            chore.setVersion(chore.getVersion() + 1);
+            choreReminderService.cancelReminder(chore.getId());
+        }
+    }
+
     /**
      * Validates the existence of a user.
+     * The user is read from the database rather than the shared lookup cache, as its points are about to change.
      * @param userId The ID of the user to validate.
      * @return The User object if found, otherwise throws an exception.
      */
     private User validateUser(final Long userId) {
-        Optional<User> userOptional = userRepository.findById(userId);
+        Optional<User> userOptional = userRepository.findCurrentById(userId);
         if (userOptional.isEmpty()) {
             throw new IllegalArgumentException("User with ID " + userId + " not found.");
         }
@@ -175,85 +409,44 @@ public class ChoreCompletionService {
     }
 
     /**
-     * Updates the points of a user.
-     * @param user The User object to update.
-     * @param points The number of points to add to the user.
+     * Adds recorded completions to the tribe's completion counter once the transaction commits.
+     * @param tribeId The ID of the tribe the chores belong to.
+     * @param completions The number of completions recorded.
      */
-    private void updateUserPoints(final User user, final int points) {
-        user.addPoints(points);
-        userRepository.save(user);
+    private void countCompletions(final Long tribeId, final int completions) {
+        TransactionCallbacks.runAfterCommit(() -> meterRegistry.counter(MetricsConfig.CHORE_COMPLETIONS,
+                MetricsConfig.TRIBE_TAG, String.valueOf(tribeId)).increment(completions));
     }
 
     /**
-     * Handles the creation of a new instance of a recurring chore.
-     * @param chore The Chore object to handle.
-     * @return The new Chore object if created, otherwise null.
+     * Writes the ChoreCompletedEvent of a recorded completion to the outbox, and publishes it once the transaction commits.
+     * @param completion The recorded completion.
+     * @param userPoints The completing user's points total after the completion.
      */
-    private void handleRecurringChore(final Chore chore) {
-        if (chore.isRecurring()) {
-            // Create a new Chore object based on the original chore's properties
-            final Chore nextChoreInstance = new Chore(
-                chore.getName(),
-                chore.getDescription(),
-                chore.getPointsValue(),
-                chore.getTribe()
-            );
-
-            // Calculate the next due date
-            final LocalDate nextDueDate = calculateNextDueDate(chore.getDueDate(), chore.getRecurrencePattern());
-            nextChoreInstance.setDueDate(nextDueDate);
-
-            // Copy recurrence properties to the new instance
-            nextChoreInstance.setRecurring(true);
-            nextChoreInstance.setRecurrencePattern(chore.getRecurrencePattern());
-
-            // Optionally, unassign the new instance or assign it based on a rotation logic
-            nextChoreInstance.setAssignedTo(null); // Unassign by default for next cycle
-
-            // Ensure the new instance is active
-            nextChoreInstance.setActive(true);
-
-            // Save the new chore instance
-            choreRepository.save(nextChoreInstance);
-
-            // Set the original chore instance to inactive, so it disappears from active lists
-            chore.setActive(false);
-            choreRepository.save(chore);
-        }
+    private void publishCompleted(final ChoreCompletion completion, final int userPoints) {
+        final ChoreCompletedEvent event = ChoreCompletedEvent.from(completion, userPoints);
+        outboxService.append(OutboxEventType.CHORE_COMPLETED, event.tribeId(), event);
+        TransactionCallbacks.runAfterCommit(() -> eventPublisher.publishEvent(event));
     }
 
     /**
-     * Helper method to calculate the next due date for a recurring chore.
-     * If the current due date is null, it starts from today.
-     * @param currentDueDate The current due date of the chore.
-     * @param recurrencePattern The recurrence pattern (e.g., "DAILY", "WEEKLY", "MONTHLY").
-     * @return The calculated next due date.
+     * Updates the points of a user and their position on the tribe leaderboard.
+     * The points are added with a single atomic UPDATE instead of saving the whole user row,
+     * so concurrent completions by the same user never lose points.
+     * The user must have been loaded in this transaction, never taken from the shared lookup cache: it is detached
+     * and given the new total for the response, and a cached copy would show that total to other requests
+     * even if the transaction rolled back. Cached lookups of the user are evicted once the transaction commits.
+     * @param user The User object to update, loaded in the current transaction.
+     * @param points The number of points to add to the user.
+     * @return The user's new points total.
      */
-    private LocalDate calculateNextDueDate(final LocalDate currentDueDate, final String recurrencePattern) {
-        // If no current due date is set, start from today
-        final LocalDate newDueDate = currentDueDate == null ? LocalDate.now() : currentDueDate;
-
-        if (recurrencePattern == null) {
-            // If recurrence pattern is null, it's not truly recurring in a defined way.
-            // For safety, just return the current date or throw an error.
-            // For this implementation, we'll assume it's handled by isRecurring check.
-            return newDueDate;
-        }
-
-        switch (recurrencePattern.toUpperCase()) {
-            case "DAILY":
-                return newDueDate.plusDays(1);
-            case "WEEKLY":
-                return newDueDate.plusWeeks(1);
-            case "MONTHLY":
-                return newDueDate.plusMonths(1);
-            case "YEARLY":
-                return newDueDate.plusYears(1);
-            // Add more cases as needed (e.g., "BI-WEEKLY", "FORTNIGHTLY")
-            default:
-                // If an unrecognized pattern, log a warning and default to daily or throw an exception
-                System.err.println("Unrecognized recurrence pattern: " + recurrencePattern + ". Defaulting to daily.");
-                return currentDueDate.plusDays(1);
-        }
+    private int updateUserPoints(final User user, final int points) {
+        final int newTotal = userRepository.incrementPoints(user.getId(), points)
+                .orElseThrow(() -> new IllegalArgumentException("User with ID " + user.getId() + " not found."));
+        entityManager.detach(user); // So the new total on it is not written back
+        user.setPoints(newTotal);
+        entityCacheService.evictUser(user);
+        leaderboardService.updateUserScore(user, newTotal);
+        return newTotal;
     }
-}
\ No newline at end of file
+}
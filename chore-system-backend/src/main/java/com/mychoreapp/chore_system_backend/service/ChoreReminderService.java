@@ -0,0 +1,182 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.dto.ChoreReminder;
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class for reminding assignees of chores whose due date is approaching.
+ * Pending reminders are held in an in-memory timing wheel with one tick per minute, instead of polling the chores table:
+ * chores due within the next few days are loaded at startup, one more day is loaded each midnight, and
+ * ChoreService and RecurringChoreService keep the wheel in step as chores are created, changed or deactivated.
+ * Each reminder fires a configurable lead time before the start of the chore's due date and is handed to the ReminderSink.
+ * The wheel is held by one instance only: with several instances, each would send every reminder, and each would miss
+ * the changes made through the others. Exactly one instance must run with reminders.enabled=true; on the others the
+ * service holds no reminders and sends none.
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class ChoreReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChoreReminderService.class);
+    private static final long TICK_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int WHEEL_SLOT_BITS = 6; // 64 slots per level
+    private static final int WHEEL_LEVELS = 4; // 64^4 minutes, about 32 years
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final IChoreRepository choreRepository;
+    private final ReminderSink reminderSink;
+    private final Duration leadTime;
+    private final int horizonDays;
+    private final boolean enabled;
+    private final TimingWheel<ChoreReminder> wheel = new TimingWheel<>(WHEEL_SLOT_BITS, WHEEL_LEVELS, currentTick());
+
+    /**
+     * Constructor for dependency injection.
+     * @param choreRepository The chore repository to be injected.
+     * @param reminderSink The sink that delivers fired reminders.
+     * @param leadTime How long before the start of its due date a chore's reminder fires.
+     * @param horizonDays How many days ahead reminders are held in memory.
+     * @param enabled Whether this instance holds and sends the reminders.
+     */
+    @Autowired
+    public ChoreReminderService(final IChoreRepository choreRepository,
+                                final ReminderSink reminderSink,
+                                @Value("${reminders.lead-time:PT12H}") final Duration leadTime,
+                                @Value("${reminders.horizon-days:7}") final int horizonDays,
+                                @Value("${reminders.enabled:true}") final boolean enabled) {
+        this.choreRepository = choreRepository;
+        this.reminderSink = reminderSink;
+        this.leadTime = leadTime;
+        this.horizonDays = horizonDays;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Loads the reminders of the chores due within the horizon once the application has started.
+     * Reminders whose time has already passed are skipped; they were sent before the restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadUpcomingReminders() {
+        if (!enabled) {
+            return;
+        }
+        final LocalDate today = LocalDate.now();
+        for (int day = 0; day <= horizonDays; day++) {
+            loadReminders(today.plusDays(day));
+        }
+        log.info("Loaded {} chore reminders", wheel.size());
+    }
+
+    /**
+     * Scheduled task that loads the reminders of the chores due on the day that has just entered the horizon.
+     * Runs every day at midnight.
+     */
+    @Scheduled(cron = "${reminders.load-cron:0 0 0 * * *}")
+    public void loadNextDay() {
+        if (!enabled) {
+            return;
+        }
+        loadReminders(LocalDate.now().plusDays(horizonDays));
+    }
+
+    /**
+     * Scheduled task that advances the wheel to the current minute and sends the reminders that fell due.
+     */
+    @Scheduled(fixedRate = 1, timeUnit = TimeUnit.SECONDS)
+    public void sendDueReminders() {
+        final List<ChoreReminder> due = wheel.advanceTo(currentTick());
+        for (final ChoreReminder reminder : due) {
+            try {
+                reminderSink.send(reminder);
+            } catch (final RuntimeException e) {
+                log.warn("Could not send reminder for chore {}", reminder.choreId(), e); // Other reminders are still sent
+            }
+        }
+    }
+
+    /**
+     * Schedules, moves or cancels the reminder of a chore after it has been saved, once the current transaction commits.
+     * A chore gets a reminder if it is active, assigned and due within the horizon; if its reminder time has
+     * already passed (e.g. it was created the evening before it is due), the reminder is sent right away.
+     * @param chore The saved chore, with its assigned user loaded.
+     */
+    public void scheduleReminder(final Chore chore) {
+        if (!enabled) {
+            return;
+        }
+        final LocalDate today = LocalDate.now();
+        final boolean remind = chore.isActive() && chore.getAssignedTo() != null && chore.getDueDate() != null
+                && !chore.getDueDate().isBefore(today) && !chore.getDueDate().isAfter(today.plusDays(horizonDays));
+        final Long choreId = chore.getId();
+        final ChoreReminder reminder = remind ? ChoreReminder.from(chore) : null;
+        TransactionCallbacks.runAfterCommit(() -> {
+            if (reminder != null) {
+                wheel.schedule(choreId, reminderTick(reminder.dueDate()), reminder);
+            } else {
+                wheel.cancel(choreId);
+            }
+        });
+    }
+
+    /**
+     * Cancels the reminder of a chore, e.g. after it is deleted or deactivated, once the current transaction commits.
+     * @param choreId The ID of the chore.
+     */
+    public void cancelReminder(final Long choreId) {
+        TransactionCallbacks.runAfterCommit(() -> wheel.cancel(choreId));
+    }
+
+    /**
+     * Helper method to load the reminders of the chores due on a given day, in keyset batches.
+     * Reminders whose time has already passed are skipped.
+     * @param dueDate The due date.
+     */
+    private void loadReminders(final LocalDate dueDate) {
+        final long tick = reminderTick(dueDate);
+        if (tick <= currentTick()) {
+            return;
+        }
+        Long afterId = 0L;
+        Slice<ChoreReminder> batch;
+        do {
+            batch = choreRepository.findRemindersByDueDate(dueDate, afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (final ChoreReminder reminder : batch) {
+                wheel.schedule(reminder.choreId(), tick, reminder);
+                afterId = reminder.choreId();
+            }
+        } while (batch.hasNext());
+    }
+
+    /**
+     * Helper method to return the wheel tick at which the reminder of a chore due on a given day fires.
+     */
+    private long reminderTick(final LocalDate dueDate) {
+        return dueDate.atStartOfDay(ZoneId.systemDefault()).minus(leadTime).toInstant().toEpochMilli() / TICK_MILLIS;
+    }
+
+    /**
+     * Helper method to return the wheel tick of the current minute.
+     */
+    private static long currentTick() {
+        return System.currentTimeMillis() / TICK_MILLIS;
+    }
+}
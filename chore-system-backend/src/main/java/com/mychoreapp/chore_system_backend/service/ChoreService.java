@@ -1,13 +1,20 @@
 package com.mychoreapp.chore_system_backend.service;
 
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.dto.ChoreSummary;
+import com.mychoreapp.chore_system_backend.dto.CursorPage;
 import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.OutboxEventType;
 import com.mychoreapp.chore_system_backend.model.Tribe;
 import com.mychoreapp.chore_system_backend.model.User;
 import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
 import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
 import com.mychoreapp.chore_system_backend.repository.IUserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,12 +25,16 @@ import java.util.Optional;
  * It interacts with IChoreRepository, ITribeRepository, and IUserRepository
  * to perform database operations and enforce business rules.
  */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
 @Service
 public class ChoreService {
 
     private final IChoreRepository choreRepository;
     private final ITribeRepository tribeRepository;
     private final IUserRepository userRepository;
+    private final ChoreReminderService choreReminderService;
+    private final OptimisticRetry optimisticRetry;
+    private final OutboxService outboxService;
 
     /**
      * Constructor for dependency injection.
@@ -31,12 +42,20 @@ public class ChoreService {
      * @param choreRepository The chore repository to be injected.
      * @param tribeRepository The tribe repository to be injected.
      * @param userRepository The user repository to be injected.
+     * @param choreReminderService The service keeping due-date reminders in step with chore changes.
+     * @param optimisticRetry The helper that retries updates conflicting with concurrent ones.
+     * @param outboxService The service new chores are written to the outbox with.
      */
     @Autowired
-    public ChoreService(final IChoreRepository choreRepository, final ITribeRepository tribeRepository, final IUserRepository userRepository) {
+    public ChoreService(final IChoreRepository choreRepository, final ITribeRepository tribeRepository, final IUserRepository userRepository,
+                        final ChoreReminderService choreReminderService, final OptimisticRetry optimisticRetry,
+                        final OutboxService outboxService) {
         this.choreRepository = choreRepository;
         this.tribeRepository = tribeRepository;
         this.userRepository = userRepository;
+        this.choreReminderService = choreReminderService;
+        this.optimisticRetry = optimisticRetry;
+        this.outboxService = outboxService;
     }
 
     /**
@@ -44,8 +63,10 @@ public class ChoreService {
      * @param chore The Chore object to create.
      * @param tribeId The ID of the tribe this chore belongs to.
      * @return The saved Chore object.
-     * @throws IllegalArgumentException if the tribe does not exist, or if a chore with the same name already exists in the tribe.
+     * @throws IllegalArgumentException if the tribe does not exist, if a chore with the same name already exists in the tribe,
+     * or if the recurrence pattern is invalid.
      */
+    @Transactional // The chore and its outbox event are written together
     public Chore createChore(final Chore chore, final Long tribeId) {
         // Validate tribe existence
         Optional<Tribe> tribeOptional = tribeRepository.findById(tribeId);
@@ -65,6 +86,8 @@ public class ChoreService {
             throw new IllegalArgumentException("Chore points value must be positive.");
         }
 
+        validateRecurrence(chore);
+
         // Handle assignedTo if provided, using the new helper method for decomposition
         if (chore.getAssignedTo() != null && chore.getAssignedTo().getId() != null) {
             chore.setAssignedTo(validateAndGetAssignedUser(chore.getAssignedTo().getId(), tribeId));
@@ -72,7 +95,29 @@ public class ChoreService {
             chore.setAssignedTo(null); // Ensure assignedTo is null if not explicitly set or invalid
         }
 
-        return choreRepository.save(chore);
+        chore.setVersion(null); // A new chore starts at version 0, whatever the request body says
+        final Chore savedChore = choreRepository.save(chore);
+        choreReminderService.scheduleReminder(savedChore);
+        outboxService.append(OutboxEventType.CHORE_CREATED, tribeId, ChoreSummary.from(savedChore));
+        return savedChore;
+    }
+
+    /**
+     * Validates the recurrence pattern of a recurring chore, and starts its series at its due date if no start is set.
+     * Chores without a pattern are still accepted; they recur daily.
+     * @param chore The chore to validate.
+     * @throws IllegalArgumentException if the recurrence pattern is not a supported recurrence rule.
+     */
+    private void validateRecurrence(final Chore chore) {
+        if (!chore.isRecurring()) {
+            return;
+        }
+        if (chore.getRecurrencePattern() != null) {
+            RecurrenceRule.compile(chore.getRecurrencePattern());
+        }
+        if (chore.getRecurrenceStart() == null) {
+            chore.setRecurrenceStart(chore.getDueDate());
+        }
     }
 
     private void validateTribe(final Long tribeId) {
@@ -96,56 +141,70 @@ public class ChoreService {
     /**
      * Retrieves all chores for a specific tribe.
      * @param tribeId The ID of the tribe.
-     * @return A list of chores belonging to the specified tribe.
+     * @return A list of summaries of the chores belonging to the specified tribe.
      */
-    public List<Chore> getChoresByTribe(final Long tribeId) {
-        return choreRepository.findByTribeId(tribeId);
+    public List<ChoreSummary> getChoresByTribe(final Long tribeId) {
+        return choreRepository.findSummariesByTribeId(tribeId);
     }
 
     /**
      * Retrieves all active chores for a specific tribe.
      * @param tribeId The ID of the tribe.
-     * @return A list of active chores belonging to the specified tribe.
+     * @return A list of summaries of the active chores belonging to the specified tribe.
      */
-    public List<Chore> getActiveChoresByTribe(final Long tribeId) {
-        return choreRepository.findByTribeIdAndIsActive(tribeId, true);
+    public List<ChoreSummary> getActiveChoresByTribe(final Long tribeId) {
+        return choreRepository.findActiveSummariesByTribeId(tribeId);
     }
 
     /**
      * Retrieves all chores assigned to a specific user.
      * @param userId The ID of the user.
-     * @return A list of chores assigned to the specified user.
+     * @return A list of summaries of the chores assigned to the specified user.
      */
-    public List<Chore> getChoresAssignedToUser(final Long userId) {
-        return choreRepository.findByAssignedToId(userId);
+    public List<ChoreSummary> getChoresAssignedToUser(final Long userId) {
+        return choreRepository.findSummariesByAssignedToId(userId);
     }
 
     /**
      * Retrieves all active chores assigned to a specific user.
      * @param userId The ID of the user.
-     * @return A list of active chores assigned to the specified user.
+     * @return A list of summaries of the active chores assigned to the specified user.
      */
-    public List<Chore> getActiveChoresAssignedToUser(final Long userId) {
-        return choreRepository.findByAssignedToIdAndIsActive(userId, true);
+    public List<ChoreSummary> getActiveChoresAssignedToUser(final Long userId) {
+        return choreRepository.findActiveSummariesByAssignedToId(userId);
     }
 
     /**
-     * Retrieves all chores in the system (for administrative purposes).
-     * @return A list of all Chore objects.
+     * Retrieves one page of all chores in the system (for administrative purposes), in ID order.
+     * @param afterId The ID of the last chore on the previous page (0 for the first page).
+     * @param size The maximum number of chores on the page.
+     * @return A page of chore summaries with the cursor for the next page.
      */
-    public List<Chore> getAllChores() {
-        return choreRepository.findAll();
+    public CursorPage<ChoreSummary> getAllChores(final Long afterId, final int size) {
+        return CursorPage.of(choreRepository.findSummariesByIdGreaterThan(afterId, PageRequest.of(0, size)), ChoreSummary::id);
     }
 
     /**
      * Updates an existing chore.
+     * The update must carry the version of the chore it is based on; if the chore has changed since,
+     * the update is rejected rather than overwriting the newer changes. Only conflicts within the update's own
+     * read-modify-write are retried, and a retry that finds a newer version is rejected the same way.
      * @param id The ID of the chore to update.
-     * @param updatedChore The Chore object with updated information.
+     * @param updatedChore The Chore object with updated information and the version it is based on.
      * @return The updated Chore object.
-     * @throws IllegalArgumentException if the chore ID is missing, the tribe does not exist,
-     * or if a chore with the same name already exists in the same tribe (for a different chore).
+     * @throws IllegalArgumentException if the chore ID or version is missing, the tribe does not exist,
+     * if a chore with the same name already exists in the same tribe (for a different chore), or if the recurrence pattern is invalid.
+     * @throws StaleVersionException if the chore has changed since the version the update is based on.
+     * @throws ConcurrentUpdateException if the chore kept being changed concurrently.
      */
     public Chore updateChore(final Long id, final Chore updatedChore) {
+        return optimisticRetry.execute(() -> applyUpdate(id, updatedChore));
+    }
+
+    /**
+     * Helper method for updateChore: loads the chore and applies one attempt of the update, in the caller's transaction.
+     */
+    private Chore applyUpdate(final Long id, final Chore updatedChore) {
         Optional<Chore> existingChoreOptional = choreRepository.findById(id);
         if (existingChoreOptional.isEmpty()) {
             throw new IllegalArgumentException("Chore with ID " + id + " not found for update.");
@@ -157,6 +216,15 @@ public class ChoreService {
             throw new IllegalArgumentException("ID in path does not match ID in request body.");
         }
 
+        // Ensure the update is based on the current version; Hibernate's version check covers changes made after this read
+        if (updatedChore.getVersion() == null) {
+            throw new IllegalArgumentException("Version of the chore being updated must be specified.");
+        }
+        if (!existingChore.getVersion().equals(updatedChore.getVersion())) {
+            throw new StaleVersionException("Chore with ID " + id + " is at version " + existingChore.getVersion()
+                    + ", the update is based on version " + updatedChore.getVersion() + ".");
+        }
+
         // Validate tribe existence if tribe is being updated (though typically tribe is fixed)
         // Or ensure the existing chore's tribe is maintained if not explicitly changed.
         if (updatedChore.getTribe() == null || updatedChore.getTribe().getId() == null) {
@@ -181,7 +249,11 @@ public class ChoreService {
         existingChore.setDueDate(updatedChore.getDueDate());
         existingChore.setRecurring(updatedChore.isRecurring());
         existingChore.setRecurrencePattern(updatedChore.getRecurrencePattern());
+        if (updatedChore.getRecurrenceStart() != null) {
+            existingChore.setRecurrenceStart(updatedChore.getRecurrenceStart());
+        }
         existingChore.setActive(updatedChore.isActive());
+        validateRecurrence(existingChore);
 
         // Handle assignedTo update using the new helper method for decomposition
         if (updatedChore.getAssignedTo() != null && updatedChore.getAssignedTo().getId() != null) {
@@ -190,7 +262,9 @@ public class ChoreService {
             existingChore.setAssignedTo(null); // Unassign if assignedTo is null or invalid
         }
 
-        return choreRepository.save(existingChore);
+        final Chore savedChore = choreRepository.save(existingChore);
+        choreReminderService.scheduleReminder(savedChore); // The due date, assignee or active flag may have changed
+        return savedChore;
     }
 
     /**
@@ -199,6 +273,7 @@ public class ChoreService {
      */
     public void deleteChore(final Long id) {
         choreRepository.deleteById(id);
+        choreReminderService.cancelReminder(id);
     }
 
     /**
@@ -208,19 +283,10 @@ public class ChoreService {
      * @param userId The ID of the user to assign the chore to.
      * @return The updated Chore object.
      * @throws IllegalArgumentException if chore or user not found, or user is not in the chore's tribe.
+     * @throws ConcurrentUpdateException if the chore kept being changed concurrently.
      */
     public Chore assignChore(final Long choreId, final Long userId) {
-        Optional<Chore> choreOptional = choreRepository.findById(choreId);
-        if (choreOptional.isEmpty()) {
-            throw new IllegalArgumentException("Chore with ID " + choreId + " not found.");
-        }
-        Chore chore = choreOptional.get();
-
-        // Use the helper method for user validation
-        User user = validateAndGetAssignedUser(userId, chore.getTribe().getId());
-
-        chore.setAssignedTo(user);
-        return choreRepository.save(chore);
+        return optimisticRetry.execute(() -> applyAssignee(choreId, userId));
     }
 
     /**
@@ -228,16 +294,31 @@ public class ChoreService {
      * @param choreId The ID of the chore to unassign.
      * @return The updated Chore object.
      * @throws IllegalArgumentException if chore not found.
+     * @throws ConcurrentUpdateException if the chore kept being changed concurrently.
      */
     public Chore unassignChore(final Long choreId) {
+        return optimisticRetry.execute(() -> applyAssignee(choreId, null)); // A null user unassigns the chore
+    }
+
+    /**
+     * Helper method for assignChore and unassignChore: loads the chore and sets its assigned user, in the caller's transaction.
+     * @param choreId The ID of the chore.
+     * @param userId The ID of the user to assign the chore to, or null to unassign it.
+     * @return The updated Chore object.
+     * @throws IllegalArgumentException if chore or user not found, or user is not in the chore's tribe.
+     */
+    private Chore applyAssignee(final Long choreId, final Long userId) {
         Optional<Chore> choreOptional = choreRepository.findById(choreId);
         if (choreOptional.isEmpty()) {
             throw new IllegalArgumentException("Chore with ID " + choreId + " not found.");
         }
         Chore chore = choreOptional.get();
 
-        chore.setAssignedTo(null); // Set assignedTo to null to unassign
-        return choreRepository.save(chore);
+        // Use the helper method for user validation
+        chore.setAssignedTo(userId == null ? null : validateAndGetAssignedUser(userId, chore.getTribe().getId()));
+        final Chore savedChore = choreRepository.save(chore);
+        choreReminderService.scheduleReminder(savedChore); // Only assigned chores get a reminder
+        return savedChore;
     }
 
     /**
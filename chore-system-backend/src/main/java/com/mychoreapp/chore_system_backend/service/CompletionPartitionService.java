@@ -0,0 +1,94 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Service class for maintaining the monthly partitions of the chore_completions table.
+ * Partitions are created a few months ahead so inserts never fall into the default partition,
+ * and, if a retention period is configured, partitions older than it are detached.
+ * Detached partitions are kept as standalone tables (archives) and are no longer visible to queries.
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class CompletionPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CompletionPartitionService.class);
+    private static final String PARTITION_PREFIX = "chore_completions_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM"); // Matches create_chore_completions_partition
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retainMonths;
+
+    /**
+     * Constructor for dependency injection.
+     * @param jdbcTemplate The JDBC template used to run the partition DDL.
+     * @param monthsAhead How many months after the current one must already have a partition.
+     * @param retainMonths How many months of partitions (including the current one) stay attached; 0 keeps them all.
+     */
+    @Autowired
+    public CompletionPartitionService(final JdbcTemplate jdbcTemplate,
+                                      @Value("${completion-partitions.months-ahead:3}") final int monthsAhead,
+                                      @Value("${completion-partitions.retain-months:0}") final int retainMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retainMonths = retainMonths;
+    }
+
+    /**
+     * Creates any missing partitions once the application has started, in case it was not running when the scheduled job was due.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintainPartitions();
+    }
+
+    /**
+     * Scheduled task that creates the partitions of the current and the next months, then detaches expired partitions.
+     * Runs every day shortly after midnight; creating a partition that already exists is a no-op.
+     */
+    @Scheduled(cron = "${completion-partitions.maintenance-cron:0 30 0 * * *}")
+    public void maintainPartitions() {
+        final YearMonth currentMonth = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            jdbcTemplate.queryForObject("SELECT create_chore_completions_partition(?)", String.class,
+                    currentMonth.plusMonths(i).atDay(1));
+        }
+        if (retainMonths > 0) {
+            detachPartitionsBefore(currentMonth.minusMonths(retainMonths - 1L));
+        }
+    }
+
+    /**
+     * Detaches every monthly partition that only holds completions from before the given month.
+     * The default partition is never detached.
+     * @param oldestRetainedMonth The oldest month whose partition stays attached.
+     */
+    private void detachPartitionsBefore(final YearMonth oldestRetainedMonth) {
+        final List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'chore_completions'::regclass AND c.relname ~ '^chore_completions_[0-9]{4}_[0-9]{2}$'",
+                String.class);
+        for (final String partition : partitions) {
+            final YearMonth month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            if (month.isBefore(oldestRetainedMonth)) {
+                jdbcTemplate.execute("ALTER TABLE chore_completions DETACH PARTITION " + partition); // Name was validated by the regex above
+                log.info("Detached chore completion partition {} (completions before {})", partition, month.plusMonths(1).atDay(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.mychoreapp.chore_system_backend.service;
+
+/**
+ * Thrown when an update keeps conflicting with concurrent updates of the same chore or user,
+ * and has been given up after a bounded number of attempts. Controllers map it to 409 (Conflict).
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+
+    /**
+     * Creates the exception.
+     * @param message The detail message.
+     * @param cause The failure of the last attempt.
+     */
+    public ConcurrentUpdateException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.mychoreapp.chore_system_backend.service;
+
+/**
+ * Thrown when a request's idempotency key has been stored by a concurrent request with the same key,
+ * so the request's transaction is rolled back. Controllers answer with the outcome of the other request.
+ */
+public class DuplicateRequestException extends RuntimeException {
+
+    /**
+     * Creates the exception.
+     * @param message The detail message.
+     */
+    public DuplicateRequestException(final String message) {
+        super(message);
+    }
+}
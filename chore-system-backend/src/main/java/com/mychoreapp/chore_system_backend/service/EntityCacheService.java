@@ -0,0 +1,82 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.config.CacheConfig;
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.model.User;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service class for evicting cached Tribe and User lookups when the underlying rows change.
+ * The lookups themselves are cached on the repository methods (see CacheConfig).
+ * Inside a transaction, entries are only evicted once it commits, so a concurrent reader
+ * cannot re-cache the old row while the change is still uncommitted.
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class EntityCacheService {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Constructor for dependency injection.
+     * Spring automatically injects the CacheManager configured from application.properties.
+     * @param cacheManager The cache manager holding the lookup caches.
+     */
+    @Autowired
+    public EntityCacheService(final CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Evicts every cached lookup of a user (by ID, username and email).
+     * @param user The user whose row changed, with the username and email it was cached under.
+     */
+    public void evictUser(final User user) {
+        final Long id = user.getId();
+        final String username = user.getUsername();
+        final String email = user.getEmail();
+        TransactionCallbacks.runAfterCommit(() -> {
+            evict(CacheConfig.USERS_BY_ID, id);
+            evict(CacheConfig.USERS_BY_USERNAME, username);
+            evict(CacheConfig.USERS_BY_EMAIL, email);
+        });
+    }
+
+    /**
+     * Evicts every cached lookup of a tribe (by ID, join code and name).
+     * Cached users embed their tribe, so all cached users are evicted as well; tribes change rarely.
+     * @param tribe The tribe whose row changed, with the name and join code it was cached under.
+     */
+    public void evictTribe(final Tribe tribe) {
+        final Long id = tribe.getId();
+        final String joinCode = tribe.getJoinCode();
+        final String name = tribe.getName();
+        TransactionCallbacks.runAfterCommit(() -> {
+            evict(CacheConfig.TRIBES_BY_ID, id);
+            evict(CacheConfig.TRIBES_BY_JOIN_CODE, joinCode);
+            evict(CacheConfig.TRIBES_BY_NAME, name);
+            clear(CacheConfig.USERS_BY_ID);
+            clear(CacheConfig.USERS_BY_USERNAME);
+            clear(CacheConfig.USERS_BY_EMAIL);
+        });
+    }
+
+    private void evict(final String cacheName, final Object key) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(final String cacheName) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.repository.IIdempotencyKeyRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service class for the idempotency keys of chore completion requests, so a client can retry a request
+ * (e.g. after a timeout on a flaky network) without recording the completion twice.
+ * The completion recorded for a key is stored in the idempotency_keys table, in the same transaction as the
+ * completion, and kept for the TTL (idempotency.ttl). Keys are looked up before anything is recorded; recently
+ * used keys are held in memory, so a retry on the same instance is answered without reading the table.
+ * Of several concurrent requests with the same key, one stores it; the others are rolled back (see claimKey).
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final int MAX_KEY_LENGTH = 255; // Length of the idempotency_key column
+
+    /**
+     * A stored key: the request it was sent with and the completion recorded for it.
+     */
+    private record Outcome(Long choreId, Long userId, Long completionId, LocalDateTime createdAt) {
+    }
+
+    private final IIdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration ttl;
+    private final Cache<String, Outcome> recentKeys;
+
+    /**
+     * Constructor for dependency injection.
+     * @param idempotencyKeyRepository The idempotency key repository to be injected.
+     * @param ttl How long a key is kept.
+     * @param cacheSize The maximum number of keys held in memory.
+     */
+    @Autowired
+    public IdempotencyService(final IIdempotencyKeyRepository idempotencyKeyRepository,
+                              @Value("${idempotency.ttl:PT24H}") final Duration ttl,
+                              @Value("${idempotency.cache-size:10000}") final int cacheSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = ttl;
+        this.recentKeys = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Finds the completion recorded for an idempotency key.
+     * @param key The idempotency key.
+     * @param choreId The chore of the request.
+     * @param userId The user of the request.
+     * @return An Optional containing the ID of the completion, or empty if the key is new or has expired.
+     * @throws IllegalArgumentException if the key is too long, or was used for another chore or user.
+     */
+    public Optional<Long> findCompletionId(final String key, final Long choreId, final Long userId) {
+        validateKey(key);
+        Outcome outcome = recentKeys.getIfPresent(key);
+        if (outcome == null) {
+            outcome = idempotencyKeyRepository.findById(key)
+                    .map(stored -> new Outcome(stored.getChoreId(), stored.getUserId(), stored.getCompletionId(), stored.getCreatedAt()))
+                    .orElse(null);
+            if (outcome == null || outcome.createdAt().isBefore(LocalDateTime.now().minus(ttl))) {
+                return Optional.empty(); // Expired keys are deleted periodically, so may still be stored
+            }
+            recentKeys.put(key, outcome);
+        }
+        if (!Objects.equals(outcome.choreId(), choreId) || !Objects.equals(outcome.userId(), userId)) {
+            throw new IllegalArgumentException("Idempotency key '" + key + "' was already used for another request.");
+        }
+        return Optional.of(outcome.completionId());
+    }
+
+    /**
+     * Stores the completion recorded for an idempotency key, in the current transaction.
+     * Called right after the completion is saved, so a duplicate is rolled back before points are awarded.
+     * @param key The idempotency key.
+     * @param choreId The chore of the request.
+     * @param userId The user of the request.
+     * @param completionId The ID of the recorded completion.
+     * @throws DuplicateRequestException if a concurrent request has stored the same key.
+     * @throws IllegalArgumentException if the key is too long.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void claimKey(final String key, final Long choreId, final Long userId, final Long completionId) {
+        validateKey(key);
+        final LocalDateTime now = LocalDateTime.now();
+        if (idempotencyKeyRepository.insertIfAbsent(key, choreId, userId, completionId, now, now.minus(ttl)).isEmpty()) {
+            throw new DuplicateRequestException("Idempotency key '" + key + "' was stored by a concurrent request.");
+        }
+        final Outcome outcome = new Outcome(choreId, userId, completionId, now);
+        TransactionCallbacks.runAfterCommit(() -> recentKeys.put(key, outcome));
+    }
+
+    /**
+     * Scheduled task that deletes the expired idempotency keys.
+     */
+    @Scheduled(cron = "${idempotency.cleanup-cron:0 50 * * * *}")
+    public void deleteExpiredKeys() {
+        final int deleted = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (deleted > 0) {
+            log.info("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+
+    private void validateKey(final String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters long.");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * The time window a leaderboard covers.
+ * ALL_TIME ranks users by their lifetime points; the other periods rank them by the points
+ * awarded for chore completions since the start of the current day, ISO week (Monday) or month.
+ */
+public enum LeaderboardPeriod {
+    ALL_TIME,
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * Returns the first day of the period that contains the given date.
+     * @param date The date to look up.
+     * @return The first day of the enclosing period, or {@link LocalDate#MIN} for ALL_TIME.
+     */
+    public LocalDate startOf(final LocalDate date) {
+        switch (this) {
+            case DAILY:
+                return date;
+            case WEEKLY:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY:
+                return date.withDayOfMonth(1);
+            default:
+                return LocalDate.MIN;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.dto.LeaderboardEntry;
+import com.mychoreapp.chore_system_backend.dto.CompletionPoints;
+import com.mychoreapp.chore_system_backend.model.User;
+import com.mychoreapp.chore_system_backend.repository.IChoreCompletionRepository;
+import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
+import com.mychoreapp.chore_system_backend.repository.IUserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Service class for serving tribe leaderboards from memory.
+ * Each tribe's board is loaded from the database once, the first time it is requested,
+ * and is then kept up to date incrementally whenever a user's points or tribe membership change.
+ * Leaderboard reads never touch the database after the initial load.
+ * Boards are only created for existing tribes, and are held in caches bounded in size
+ * (leaderboard.max-tribes) that drop boards not read for a while (leaderboard.idle-expiry); a dropped board
+ * is loaded again on its next request. A board is loaded by the first thread that requests it, outside the
+ * caches' locks; other requests for it wait for the load, and updates to it are applied once it has finished.
+ *
+ * Besides the lifetime (ALL_TIME) board, each tribe has daily, weekly and monthly boards that hold
+ * the points awarded for chore completions in the current period. These are rolled forward to an
+ * empty board when a new period starts.
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class LeaderboardService {
+
+    /**
+     * Identifies the board of one tribe for one time-limited period.
+     */
+    private record PeriodKey(Long tribeId, LeaderboardPeriod period) {
+    }
+
+    /**
+     * The board of one tribe for one period, replaced by an empty board when the period rolls over.
+     */
+    private static final class PeriodBoard {
+
+        private final LeaderboardPeriod period;
+        private LocalDate start; // First day of the period the board covers
+        private RankedScoreBoard board;
+        private long[] loadedCompletionIds; // Sorted IDs of the completions counted when the board was loaded
+
+        private PeriodBoard(final LeaderboardPeriod period, final LocalDate start, final RankedScoreBoard board,
+                            final long[] loadedCompletionIds) {
+            this.period = period;
+            this.start = start;
+            this.board = board;
+            this.loadedCompletionIds = loadedCompletionIds;
+        }
+
+        /**
+         * Returns the board of the current period, replacing it with an empty one first if its period has ended.
+         */
+        private synchronized RankedScoreBoard current(final LocalDate today) {
+            final LocalDate currentStart = period.startOf(today);
+            if (!start.equals(currentStart)) {
+                start = currentStart;
+                board = new RankedScoreBoard();
+                loadedCompletionIds = new long[0]; // Completions of the new period were not loaded
+            }
+            return board;
+        }
+
+        /**
+         * Adds points for a completion to the board of the current period, unless it is dated before the period
+         * or was already counted by the load (it committed before the load read the completions).
+         */
+        private synchronized void add(final Long completionId, final Long userId, final String displayName, final int points,
+                                      final LocalDate completionDay, final LocalDate today) {
+            final RankedScoreBoard currentBoard = current(today);
+            if (!completionDay.isBefore(start) && Arrays.binarySearch(loadedCompletionIds, completionId) < 0) {
+                currentBoard.add(userId, displayName, points);
+            }
+        }
+
+        private synchronized void remove(final Long userId) {
+            board.remove(userId);
+        }
+    }
+
+    private final IUserRepository userRepository;
+    private final IChoreCompletionRepository choreCompletionRepository;
+    private final ITribeRepository tribeRepository;
+    private final AsyncCache<Long, RankedScoreBoard> boards; // tribeId -> lifetime board
+    private final AsyncCache<PeriodKey, PeriodBoard> periodBoards; // (tribeId, period) -> period board
+
+    /**
+     * Constructor for dependency injection.
+     * Spring automatically injects instances of the required repositories.
+     * @param userRepository The user repository used to load a tribe's lifetime board.
+     * @param choreCompletionRepository The chore completion repository used to load a tribe's period boards.
+     * @param tribeRepository The tribe repository used to check that a tribe exists before its boards are loaded.
+     * @param maxTribes The maximum number of tribes whose boards are held, per period.
+     * @param idleExpiry How long a board is held after it was last read.
+     */
+    @Autowired
+    public LeaderboardService(final IUserRepository userRepository,
+                              final IChoreCompletionRepository choreCompletionRepository,
+                              final ITribeRepository tribeRepository,
+                              @Value("${leaderboard.max-tribes:10000}") final int maxTribes,
+                              @Value("${leaderboard.idle-expiry:PT1H}") final Duration idleExpiry) {
+        this.userRepository = userRepository;
+        this.choreCompletionRepository = choreCompletionRepository;
+        this.tribeRepository = tribeRepository;
+        this.boards = Caffeine.newBuilder()
+                .maximumSize(maxTribes)
+                .expireAfterAccess(idleExpiry)
+                .buildAsync();
+        this.periodBoards = Caffeine.newBuilder()
+                .maximumSize((long) maxTribes * (LeaderboardPeriod.values().length - 1)) // Every period but ALL_TIME
+                .expireAfterAccess(idleExpiry)
+                .buildAsync();
+    }
+
+    /**
+     * Retrieves the highest-ranked users of a tribe for a period.
+     * @param tribeId The ID of the tribe.
+     * @param period The period the leaderboard covers.
+     * @param limit The maximum number of entries to return.
+     * @return Up to {@code limit} leaderboard entries, best first.
+     * @throws IllegalArgumentException if the tribe is not found.
+     */
+    public List<LeaderboardEntry> getTopUsers(final Long tribeId, final LeaderboardPeriod period, final int limit) {
+        return getBoard(tribeId, period).top(limit);
+    }
+
+    /**
+     * Retrieves the rank and points of a single user within a tribe for a period.
+     * @param tribeId The ID of the tribe.
+     * @param userId The ID of the user.
+     * @param period The period the leaderboard covers.
+     * @return An Optional containing the user's entry, or empty if the user is not in the tribe
+     * or has not earned any points in the period.
+     * @throws IllegalArgumentException if the tribe is not found.
+     */
+    public Optional<LeaderboardEntry> getUserRank(final Long tribeId, final Long userId, final LeaderboardPeriod period) {
+        return getBoard(tribeId, period).entryFor(userId);
+    }
+
+    /**
+     * Records a user's current point total on their tribe's lifetime board.
+     * If called inside a transaction, the board is only updated once the transaction commits.
+     * Points only ever grow, so a total that arrives after a higher one from a concurrent commit is ignored.
+     * @param user The user whose points or tribe changed. Users without a tribe are ignored.
+     */
+    public void updateUserScore(final User user) {
+        updateUserScore(user, user.getPoints());
+    }
+
+    /**
+     * Records a user's point total on their tribe's lifetime board, like updateUserScore(user),
+     * for a total that is not (yet) reflected on the User object, e.g. one returned by a database increment.
+     * @param user The user whose points changed. Users without a tribe are ignored.
+     * @param points The user's new point total.
+     */
+    public void updateUserScore(final User user, final int points) {
+        if (user.getTribe() == null) {
+            return;
+        }
+        final Long tribeId = user.getTribe().getId();
+        final Long userId = user.getId();
+        final String displayName = getDisplayName(user);
+        TransactionCallbacks.runAfterCommit(() -> ifLoaded(boards, tribeId,
+                board -> board.updateIfHigher(userId, displayName, points)));
+    }
+
+    /**
+     * Records the points awarded for a chore completion on the tribe's daily, weekly and monthly boards.
+     * Completions dated before the start of a board's current period (e.g. synced late by an offline client) are not counted on it.
+     * If called inside a transaction, the boards are only updated once the transaction commits.
+     * A board that is still loading is updated once its load has finished, unless the load already counted the completion.
+     * @param tribeId The ID of the tribe the completed chore belongs to.
+     * @param completionId The ID of the completion.
+     * @param user The user who completed the chore.
+     * @param pointsAwarded The points awarded for the completion.
+     * @param completionDate When the chore was completed.
+     */
+    public void recordCompletionPoints(final Long tribeId, final Long completionId, final User user, final int pointsAwarded,
+                                       final LocalDateTime completionDate) {
+        final Long userId = user.getId();
+        final String displayName = getDisplayName(user);
+        final LocalDate completionDay = completionDate.toLocalDate();
+        TransactionCallbacks.runAfterCommit(() -> {
+            final LocalDate today = LocalDate.now();
+            for (final LeaderboardPeriod period : LeaderboardPeriod.values()) {
+                if (period == LeaderboardPeriod.ALL_TIME) {
+                    continue;
+                }
+                ifLoaded(periodBoards, new PeriodKey(tribeId, period),
+                        periodBoard -> periodBoard.add(completionId, userId, displayName, pointsAwarded, completionDay, today));
+            }
+        });
+    }
+
+    /**
+     * Removes a user from a tribe's boards, e.g. after they leave the tribe.
+     * @param tribeId The ID of the tribe the user left.
+     * @param userId The ID of the user.
+     */
+    public void removeUser(final Long tribeId, final Long userId) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            ifLoaded(boards, tribeId, board -> board.remove(userId));
+            for (final LeaderboardPeriod period : LeaderboardPeriod.values()) {
+                if (period != LeaderboardPeriod.ALL_TIME) {
+                    ifLoaded(periodBoards, new PeriodKey(tribeId, period), periodBoard -> periodBoard.remove(userId));
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes a user from every loaded board, e.g. after the user is deleted.
+     * @param userId The ID of the user.
+     */
+    public void removeUserFromAllTribes(final Long userId) {
+        TransactionCallbacks.runAfterCommit(() -> {
+            boards.asMap().values().forEach(board -> board.thenAccept(loaded -> loaded.remove(userId)));
+            periodBoards.asMap().values().forEach(periodBoard -> periodBoard.thenAccept(loaded -> loaded.remove(userId)));
+        });
+    }
+
+    /**
+     * Scheduled task that rolls every loaded period board over to an empty board once its period has ended.
+     * Boards are also rolled lazily on access; this keeps idle tribes from holding on to stale standings.
+     * Runs every day shortly after midnight.
+     */
+    @Scheduled(cron = "${leaderboard.rollover-cron:5 0 0 * * *}")
+    public void rollOverPeriodBoards() {
+        final LocalDate today = LocalDate.now();
+        periodBoards.asMap().values().forEach(periodBoard -> periodBoard.thenAccept(loaded -> loaded.current(today)));
+    }
+
+    /**
+     * Returns the board of a tribe for a period, loading it from the database if it is not held.
+     * @param tribeId The ID of the tribe.
+     * @param period The period the board covers.
+     * @return The tribe's board.
+     * @throws IllegalArgumentException if the tribe is not found.
+     */
+    private RankedScoreBoard getBoard(final Long tribeId, final LeaderboardPeriod period) {
+        if (period == LeaderboardPeriod.ALL_TIME) {
+            return getOrLoad(boards, tribeId, tribeId, this::loadLifetimeBoard);
+        }
+        final LocalDate today = LocalDate.now();
+        return getOrLoad(periodBoards, tribeId, new PeriodKey(tribeId, period), key -> loadPeriodBoard(key, today)).current(today);
+    }
+
+    /**
+     * Helper method to get a board from its cache, or load it on the calling thread if it is not held.
+     * The tribe is checked first, so unknown tribes never get a cache entry.
+     * The load runs outside the cache's locks; concurrent requests for the same board wait for it.
+     * A failed load is not cached, so the next request tries again.
+     */
+    private <K, V> V getOrLoad(final AsyncCache<K, V> cache, final Long tribeId, final K key, final Function<K, V> loader) {
+        CompletableFuture<V> held = cache.getIfPresent(key);
+        if (held == null) {
+            requireTribe(tribeId);
+            final CompletableFuture<V> loading = new CompletableFuture<>();
+            held = cache.asMap().putIfAbsent(key, loading);
+            if (held == null) {
+                try {
+                    final V loaded = loader.apply(key);
+                    loading.complete(loaded);
+                    return loaded;
+                } catch (final RuntimeException e) {
+                    loading.completeExceptionally(e); // Removed from the cache by Caffeine
+                    throw e;
+                }
+            }
+        }
+        try {
+            return held.join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e; // Failed in another request's load
+        }
+    }
+
+    /**
+     * Helper method to update a held board: right away if it is loaded, or once its load has finished.
+     * Boards that are not held are left alone; they are up to date when loaded.
+     */
+    private static <K, V> void ifLoaded(final AsyncCache<K, V> cache, final K key, final Consumer<V> update) {
+        final CompletableFuture<V> held = cache.getIfPresent(key);
+        if (held != null) {
+            held.thenAccept(update);
+        }
+    }
+
+    /**
+     * Helper method to check that a tribe exists before a board is created for it.
+     * @param tribeId The ID of the tribe.
+     * @throws IllegalArgumentException if the tribe is not found.
+     */
+    private void requireTribe(final Long tribeId) {
+        if (tribeRepository.findById(tribeId).isEmpty()) {
+            throw new IllegalArgumentException("Tribe with ID " + tribeId + " not found.");
+        }
+    }
+
+    /**
+     * Builds a tribe's lifetime board from the points stored on its users.
+     * @param tribeId The ID of the tribe.
+     * @return The loaded board.
+     */
+    private RankedScoreBoard loadLifetimeBoard(final Long tribeId) {
+        final RankedScoreBoard board = new RankedScoreBoard();
+        for (final User user : userRepository.findByTribeId(tribeId)) {
+            board.update(user.getId(), getDisplayName(user), user.getPoints());
+        }
+        return board;
+    }
+
+    /**
+     * Builds a tribe's board for the current period by summing the completions recorded since the period started.
+     * This is the only time a period board reads chore completions. The IDs of the summed completions are kept,
+     * so a completion whose update arrives after the load is not counted twice.
+     * @param key The tribe and period to load.
+     * @param today The current date.
+     * @return The loaded board.
+     */
+    private PeriodBoard loadPeriodBoard(final PeriodKey key, final LocalDate today) {
+        final LocalDate start = key.period().startOf(today);
+        final RankedScoreBoard board = new RankedScoreBoard();
+        final List<CompletionPoints> completions = choreCompletionRepository.findPointsByTribeIdSince(key.tribeId(), start.atStartOfDay());
+        final long[] completionIds = new long[completions.size()];
+        for (int i = 0; i < completionIds.length; i++) {
+            final CompletionPoints completion = completions.get(i);
+            final String displayName = completion.getUsername() != null ? completion.getUsername() : completion.getName();
+            board.add(completion.getUserId(), displayName, completion.getPoints());
+            completionIds[i] = completion.getId();
+        }
+        Arrays.sort(completionIds);
+        return new PeriodBoard(key.period(), start, board, completionIds);
+    }
+
+    /**
+     * Helper method to pick the name shown for a user: the username, or the full name for Google users.
+     * @param user The user.
+     * @return The display name.
+     */
+    private String getDisplayName(final User user) {
+        return user.getUsername() != null ? user.getUsername() : user.getName();
+    }
+}
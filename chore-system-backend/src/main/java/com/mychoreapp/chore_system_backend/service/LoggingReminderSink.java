@@ -0,0 +1,22 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.ChoreReminder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reminder sink that writes each reminder to the application log.
+ * Used for local development and tests, until a notification channel is configured.
+ */
+@Component
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void send(final ChoreReminder reminder) {
+        log.info("Reminder for user {} ({}): chore {} '{}' is due on {}", reminder.assignedToUserId(), reminder.assignedToName(),
+                reminder.choreId(), reminder.choreName(), reminder.dueDate());
+    }
+}
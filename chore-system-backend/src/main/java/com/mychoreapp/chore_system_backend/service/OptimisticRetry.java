@@ -0,0 +1,86 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs read-modify-write updates of versioned entities (Chore, User) with a bounded retry.
+ * Each attempt runs in its own transaction, so it reloads the entities it changes; if another transaction updated
+ * one of them in between, the version check fails at flush, the attempt is rolled back and, after a randomized
+ * exponential backoff, the update is run again against the new state. Once the attempts are used up,
+ * a ConcurrentUpdateException is thrown.
+ * Updates must not be called inside an existing transaction, which could not be retried on its own.
+ */
+@Component
+public class OptimisticRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    /**
+     * Constructor for dependency injection.
+     * @param transactionTemplate The template used to run each attempt in its own transaction.
+     * @param maxAttempts The maximum number of attempts per update, including the first.
+     * @param initialBackoff The upper bound of the wait before the second attempt; it doubles for every further attempt.
+     * @param maxBackoff The cap on the upper bound of the wait.
+     */
+    @Autowired
+    public OptimisticRetry(final TransactionTemplate transactionTemplate,
+                           @Value("${optimistic-retry.max-attempts:4}") final int maxAttempts,
+                           @Value("${optimistic-retry.initial-backoff:PT0.02S}") final Duration initialBackoff,
+                           @Value("${optimistic-retry.max-backoff:PT0.5S}") final Duration maxBackoff) {
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Runs an update, retrying it while it fails because of a concurrent update.
+     * Other exceptions (e.g. IllegalArgumentException from validation) are thrown unchanged, without a retry.
+     * @param update The update; it must load the entities it changes itself, so every attempt starts from their current state.
+     * @param <T> The type of the update's result.
+     * @return The result of the first attempt that commits.
+     * @throws ConcurrentUpdateException if every attempt conflicted with a concurrent update.
+     */
+    public <T> T execute(final Supplier<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> update.get());
+            } catch (final OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new ConcurrentUpdateException("Update conflicted with concurrent updates " + attempt + " times.", e);
+                }
+                log.debug("Optimistic lock conflict on attempt {}, retrying: {}", attempt, e.getMessage());
+                backOff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Helper method to wait before the next attempt, for a random time up to an exponentially growing bound ("full jitter"),
+     * so conflicting requests do not retry in lockstep.
+     */
+    private void backOff(final int attempt) {
+        final long bound = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Interrupted while waiting to retry a conflicting update.", e);
+        }
+    }
+}
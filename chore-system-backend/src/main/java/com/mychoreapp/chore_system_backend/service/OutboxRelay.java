@@ -0,0 +1,141 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.dto.OutboxMessage;
+import com.mychoreapp.chore_system_backend.model.OutboxEventType;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class for delivering the events of the transactional outbox to the outbox sinks.
+ * Each sink is relayed separately, with its own checkpoint (outbox_checkpoints), so a failing sink does not hold up
+ * the others. Events are read in batches, in commit order: ordered by writing transaction, then ID, and only from
+ * transactions older than every transaction still running, so an event that commits late is never skipped.
+ * A batch is delivered and its checkpoint advanced in one database transaction; if delivery fails, the checkpoint
+ * stays and the batch is delivered again on the next run (at-least-once delivery).
+ * The checkpoint row is locked while a batch is relayed, so several application instances can run the relay;
+ * each batch is delivered by one of them. Delivered events are deleted once they are older than the retention period.
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String SELECT_BATCH = """
+            SELECT id, event_type, tribe_id, payload::text, created_at, txid::text
+            FROM outbox_events
+            WHERE (txid, id) > (?::xid8, ?) AND txid < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY txid, id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM outbox_events
+            WHERE created_at < ? AND (txid, id) <= ALL (SELECT last_txid, last_event_id FROM outbox_checkpoints)
+            """;
+
+    /**
+     * An event read from the outbox, with the transaction that wrote it.
+     */
+    private record Row(OutboxMessage message, String txid) {
+    }
+
+    private final List<OutboxSink> sinks;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    /**
+     * Constructor for dependency injection.
+     * @param sinks Every outbox sink bean.
+     * @param jdbcTemplate The template used to read the outbox and the checkpoints.
+     * @param transactionTemplate The template used to relay each batch in its own transaction.
+     * @param batchSize The maximum number of events delivered to a sink at once.
+     * @param retention How long delivered events are kept.
+     */
+    @Autowired
+    public OutboxRelay(final List<OutboxSink> sinks,
+                       final JdbcTemplate jdbcTemplate,
+                       final TransactionTemplate transactionTemplate,
+                       @Value("${outbox.batch-size:500}") final int batchSize,
+                       @Value("${outbox.retention:P7D}") final Duration retention) {
+        this.sinks = sinks;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    /**
+     * Scheduled task that delivers the outbox events committed since the last run to every sink.
+     * Runs every second by default.
+     */
+    @Scheduled(cron = "${outbox.relay-cron:* * * * * *}")
+    public void relay() {
+        for (final OutboxSink sink : sinks) {
+            try {
+                int delivered;
+                do {
+                    delivered = transactionTemplate.execute(status -> relayBatch(sink));
+                } while (delivered == batchSize);
+            } catch (final RuntimeException e) {
+                log.warn("Delivering outbox events to sink {} failed; retrying on the next run", sink.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Scheduled task that deletes the events that every sink has received and that are older than the retention period.
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 45 0 * * *}")
+    public void deleteExpiredEvents() {
+        final int deleted = jdbcTemplate.update(DELETE_EXPIRED, LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} delivered outbox events", deleted);
+        }
+    }
+
+    /**
+     * Delivers the next batch of events to a sink and advances its checkpoint, in the caller's transaction.
+     * @param sink The sink.
+     * @return The number of events delivered; 0 if there were none, or if another instance is relaying to the sink.
+     */
+    private int relayBatch(final OutboxSink sink) {
+        jdbcTemplate.update("INSERT INTO outbox_checkpoints (sink, last_txid, last_event_id) VALUES (?, '0', 0) "
+                + "ON CONFLICT (sink) DO NOTHING", sink.getName());
+        final List<Map<String, Object>> checkpoint = jdbcTemplate.queryForList(
+                "SELECT last_txid::text AS last_txid, last_event_id FROM outbox_checkpoints WHERE sink = ? FOR UPDATE SKIP LOCKED",
+                sink.getName());
+        if (checkpoint.isEmpty()) {
+            return 0; // Locked by another instance
+        }
+        final List<Row> rows = jdbcTemplate.query(SELECT_BATCH, (rs, rowNum) -> new Row(
+                new OutboxMessage(rs.getLong(1), OutboxEventType.valueOf(rs.getString(2)),
+                        rs.getObject(3, Long.class), rs.getString(4), rs.getObject(5, LocalDateTime.class)),
+                rs.getString(6)),
+                checkpoint.get(0).get("last_txid"), checkpoint.get(0).get("last_event_id"), batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        sink.deliver(rows.stream().map(Row::message).toList());
+        final Row last = rows.get(rows.size() - 1);
+        jdbcTemplate.update("UPDATE outbox_checkpoints SET last_txid = ?::xid8, last_event_id = ? WHERE sink = ?",
+                last.txid(), last.message().id(), sink.getName());
+        return rows.size();
+    }
+}
@@ -0,0 +1,56 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.model.OutboxEvent;
+import com.mychoreapp.chore_system_backend.model.OutboxEventType;
+import com.mychoreapp.chore_system_backend.repository.IOutboxEventRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for writing events to the transactional outbox.
+ * An event is inserted in the transaction of the change it describes, so it is stored if and only if the change
+ * commits, and costs no call to another system on the write path; OutboxRelay delivers it to the sinks afterwards.
+ * The insert is flushed with the transaction's other writes, as part of the same JDBC batch where possible.
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class OutboxService {
+
+    private final IOutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor for dependency injection.
+     * @param outboxEventRepository The outbox event repository to be injected.
+     * @param objectMapper The mapper the payloads are serialized with.
+     */
+    @Autowired
+    public OutboxService(final IOutboxEventRepository outboxEventRepository, final ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes an event to the outbox, in the current transaction.
+     * @param eventType What happened.
+     * @param tribeId The tribe the event belongs to (nullable).
+     * @param payload The event, serialized as JSON.
+     * @throws org.springframework.transaction.IllegalTransactionStateException if there is no transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final OutboxEventType eventType, final Long tribeId, final Object payload) {
+        final String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " event", e);
+        }
+        outboxEventRepository.save(new OutboxEvent(eventType, tribeId, json));
+    }
+}
@@ -0,0 +1,26 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Receives the events of the transactional outbox from OutboxRelay, e.g. to publish them to a message broker
+ * for analytics or notifications. Every bean implementing this interface is a sink; each one gets every event.
+ * Delivery is at least once: a batch whose delivery fails, or whose checkpoint is lost, is delivered again,
+ * so sinks must tolerate duplicates (e.g. by event ID).
+ */
+public interface OutboxSink {
+
+    /**
+     * @return The name the sink's checkpoint is stored under; it must stay the same across restarts.
+     */
+    String getName();
+
+    /**
+     * Delivers a batch of events, in commit order. Called on the relay's scheduler thread.
+     * Throwing an exception stops the relay for this sink until its next run, which delivers the batch again.
+     * @param messages The events.
+     */
+    void deliver(List<OutboxMessage> messages);
+}
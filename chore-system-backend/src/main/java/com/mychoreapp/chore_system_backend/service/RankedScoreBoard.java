@@ -0,0 +1,261 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.LeaderboardEntry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * In-memory sorted set of (points, userId) pairs for a single tribe.
+ * Backed by a treap whose nodes track their subtree size, so score updates cost O(log n),
+ * the rank of a user is found in O(log n), and the top K users are read in O(log n + K).
+ * Users are ordered by points (highest first), then by user ID (lowest first) to break ties.
+ * All methods are synchronized; a board is shared between request threads.
+ */
+final class RankedScoreBoard {
+
+    /**
+     * A treap node holding one user's score.
+     */
+    private static final class Node {
+        private final long userId;
+        private final int points;
+        private final int priority; // Random heap priority that keeps the tree balanced in expectation
+        private int size = 1; // Number of nodes in the subtree rooted here
+        private Node left;
+        private Node right;
+
+        private Node(final long userId, final int points, final int priority) {
+            this.userId = userId;
+            this.points = points;
+            this.priority = priority;
+        }
+    }
+
+    private final Map<Long, Integer> scores = new HashMap<>(); // userId -> current points, used to locate a user's node
+    private final Map<Long, String> displayNames = new HashMap<>(); // userId -> name shown on the leaderboard
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /**
+     * Sets the points of a user, inserting the user if they are not on the board yet.
+     * @param userId The ID of the user.
+     * @param displayName The name to show for the user.
+     * @param points The user's new point total.
+     */
+    synchronized void update(final Long userId, final String displayName, final int points) {
+        displayNames.put(userId, displayName);
+        final Integer currentPoints = scores.put(userId, points);
+        if (currentPoints != null) {
+            if (currentPoints == points) {
+                return; // Position is unchanged
+            }
+            root = remove(root, currentPoints, userId);
+        }
+        root = insert(root, new Node(userId, points, random.nextInt()));
+    }
+
+    /**
+     * Sets the points of a user unless the board already holds a higher total for them.
+     * Used for lifetime totals, which only ever grow but may be reported out of order by concurrent transactions.
+     * @param userId The ID of the user.
+     * @param displayName The name to show for the user.
+     * @param points The user's point total as of some committed transaction.
+     */
+    synchronized void updateIfHigher(final Long userId, final String displayName, final int points) {
+        final Integer currentPoints = scores.get(userId);
+        if (currentPoints == null || points > currentPoints) {
+            update(userId, displayName, points);
+        } else {
+            displayNames.put(userId, displayName);
+        }
+    }
+
+    /**
+     * Adds points to a user's current total, inserting the user with the given points if they are not on the board yet.
+     * @param userId The ID of the user.
+     * @param displayName The name to show for the user.
+     * @param pointsToAdd The number of points to add.
+     */
+    synchronized void add(final Long userId, final String displayName, final int pointsToAdd) {
+        update(userId, displayName, scores.getOrDefault(userId, 0) + pointsToAdd);
+    }
+
+    /**
+     * Removes a user from the board. Does nothing if the user is not on the board.
+     * @param userId The ID of the user to remove.
+     */
+    synchronized void remove(final Long userId) {
+        displayNames.remove(userId);
+        final Integer currentPoints = scores.remove(userId);
+        if (currentPoints != null) {
+            root = remove(root, currentPoints, userId);
+        }
+    }
+
+    /**
+     * Returns the number of users on the board.
+     * @return The number of users.
+     */
+    synchronized int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    /**
+     * Returns the highest-ranked users, best first.
+     * @param limit The maximum number of entries to return.
+     * @return Up to {@code limit} leaderboard entries.
+     */
+    synchronized List<LeaderboardEntry> top(final int limit) {
+        final List<LeaderboardEntry> entries = new ArrayList<>(Math.min(Math.max(limit, 0), size()));
+        final Deque<Node> stack = new ArrayDeque<>();
+        Node current = root;
+        int previousPoints = 0;
+        int rank = 0;
+        // Iterative in-order traversal that stops as soon as enough entries have been collected
+        while ((current != null || !stack.isEmpty()) && entries.size() < limit) {
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            current = stack.pop();
+            if (entries.isEmpty() || current.points != previousPoints) {
+                rank = entries.size() + 1; // Tied users share a rank
+            }
+            previousPoints = current.points;
+            entries.add(new LeaderboardEntry(current.userId, displayNames.get(current.userId), current.points, rank));
+            current = current.right;
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the leaderboard entry of a single user.
+     * @param userId The ID of the user.
+     * @return An Optional containing the user's entry, or empty if the user is not on the board.
+     */
+    synchronized Optional<LeaderboardEntry> entryFor(final Long userId) {
+        final Integer points = scores.get(userId);
+        if (points == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LeaderboardEntry(userId, displayNames.get(userId), points, countAbove(points) + 1));
+    }
+
+    /**
+     * Counts the users with strictly more points than the given value.
+     * @param points The points to compare against.
+     * @return The number of users ranked above that score.
+     */
+    private int countAbove(final int points) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.points > points) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static int compare(final int pointsA, final long userIdA, final int pointsB, final long userIdB) {
+        if (pointsA != pointsB) {
+            return Integer.compare(pointsB, pointsA); // Higher points sort first
+        }
+        return Long.compare(userIdA, userIdB);
+    }
+
+    private static int size(final Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void resize(final Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static Node insert(final Node node, final Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (newNode.priority > node.priority) {
+            final Node[] parts = split(node, newNode.points, newNode.userId);
+            newNode.left = parts[0];
+            newNode.right = parts[1];
+            resize(newNode);
+            return newNode;
+        }
+        if (compare(newNode.points, newNode.userId, node.points, node.userId) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        resize(node);
+        return node;
+    }
+
+    private static Node remove(final Node node, final int points, final long userId) {
+        if (node == null) {
+            return null;
+        }
+        final int comparison = compare(points, userId, node.points, node.userId);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, points, userId);
+        } else {
+            node.right = remove(node.right, points, userId);
+        }
+        resize(node);
+        return node;
+    }
+
+    /**
+     * Splits a subtree into the nodes ordered before the given key and the nodes ordered after it.
+     * @return A two-element array of {before, after}.
+     */
+    private static Node[] split(final Node node, final int points, final long userId) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(node.points, node.userId, points, userId) < 0) {
+            final Node[] parts = split(node.right, points, userId);
+            node.right = parts[0];
+            resize(node);
+            return new Node[] {node, parts[1]};
+        }
+        final Node[] parts = split(node.left, points, userId);
+        node.left = parts[1];
+        resize(node);
+        return new Node[] {parts[0], node};
+    }
+
+    /**
+     * Merges two subtrees where every node of {@code before} is ordered before every node of {@code after}.
+     */
+    private static Node merge(final Node before, final Node after) {
+        if (before == null) {
+            return after;
+        }
+        if (after == null) {
+            return before;
+        }
+        if (before.priority > after.priority) {
+            before.right = merge(before.right, after);
+            resize(before);
+            return before;
+        }
+        after.left = merge(before, after.left);
+        resize(after);
+        return after;
+    }
+}
@@ -0,0 +1,343 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled recurrence pattern of a recurring chore: the subset of RFC 5545 RRULE supported by the app.
+ * Supported parts are FREQ (DAILY, WEEKLY, MONTHLY or YEARLY), INTERVAL, BYDAY (weekdays, with an ordinal
+ * such as 1MO or -1FR in monthly rules), COUNT, UNTIL (a date) and WKST=MO; weeks always start on Monday.
+ * The plain names DAILY, WEEKLY, MONTHLY and YEARLY are shorthand for FREQ=DAILY etc.
+ * Occurrences are expanded from the start of the series (the RRULE's DTSTART), which is always the first occurrence.
+ * Dates that do not exist, e.g. the 31st in a monthly rule, are skipped rather than moved, as in RFC 5545.
+ * Rules are immutable; each distinct pattern is parsed once and the compiled rule is cached.
+ */
+public final class RecurrenceRule {
+
+    /**
+     * How often the rule repeats, with the calendar unit of one period.
+     */
+    private enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS),
+        YEARLY(ChronoUnit.YEARS);
+
+        private final ChronoUnit unit;
+
+        Frequency(final ChronoUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    private static final int MAX_CACHED_RULES = 1_000; // Patterns are user input, so the cache is bounded
+    private static final int MAX_EMPTY_PERIODS = 1_000; // Periods without an occurrence after which a rule is treated as ended
+    private static final int ORDINAL_OFFSET = 5; // Ordinals -5..5 are stored as bits 0..10
+    private static final long NO_DAY = Long.MAX_VALUE; // Candidate day of a period that has none
+    private static final Pattern BY_DAY = Pattern.compile("([+-]?[1-5])?(MO|TU|WE|TH|FR|SA|SU)");
+    private static final List<String> WEEKDAY_CODES = List.of("MO", "TU", "WE", "TH", "FR", "SA", "SU");
+    private static final LoadingCache<String, RecurrenceRule> RULES = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_RULES)
+            .build(RecurrenceRule::parse);
+
+    private final Frequency frequency;
+    private final int interval;
+    private final int weekdayMask; // Bit d is set for each BYDAY weekday without an ordinal (d = 0 for Monday)
+    private final int[] ordinalMasks; // Per weekday, bit (ordinal + 5) is set for each BYDAY entry with that ordinal; null if none
+    private final boolean byDay; // Whether the rule has a BYDAY part
+    private final int count; // Maximum number of occurrences, 0 if unlimited
+    private final LocalDate until; // Last possible occurrence, null if unlimited
+
+    private RecurrenceRule(final Frequency frequency, final int interval, final int weekdayMask, final int[] ordinalMasks,
+                           final int count, final LocalDate until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.weekdayMask = weekdayMask;
+        this.ordinalMasks = ordinalMasks;
+        this.byDay = weekdayMask != 0 || ordinalMasks != null;
+        this.count = count;
+        this.until = until;
+    }
+
+    /**
+     * Returns the compiled rule for a recurrence pattern, parsing it only the first time it is seen.
+     * @param pattern The pattern, e.g. "WEEKLY" or "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH" (an "RRULE:" prefix is allowed).
+     * @return The compiled rule.
+     * @throws IllegalArgumentException if the pattern is missing or is not a supported recurrence rule.
+     */
+    public static RecurrenceRule compile(final String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            throw new IllegalArgumentException("Recurrence pattern must not be empty.");
+        }
+        return RULES.get(pattern);
+    }
+
+    /**
+     * Returns the first occurrence strictly after a date.
+     * @param start The start of the series (its first occurrence).
+     * @param date The date after which to search, usually the due date of the current occurrence.
+     * @return The next occurrence, or null if the series has ended (COUNT or UNTIL) by then.
+     */
+    public LocalDate nextAfter(final LocalDate start, final LocalDate date) {
+        return expand(start, date.toEpochDay(), Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Returns every occurrence within a date range, e.g. to show the chores of a calendar month.
+     * @param start The start of the series (its first occurrence).
+     * @param from The first date of the range (inclusive).
+     * @param to The last date of the range (inclusive).
+     * @return The occurrences in the range, in ascending order.
+     */
+    public List<LocalDate> occurrencesBetween(final LocalDate start, final LocalDate from, final LocalDate to) {
+        final List<LocalDate> occurrences = new ArrayList<>();
+        expand(start, from.toEpochDay() - 1, to.toEpochDay(), occurrences);
+        return occurrences;
+    }
+
+    /**
+     * Walks the occurrences of the series in order, period by period.
+     * Without a COUNT, the walk starts at the period containing {@code after}, so its cost does not depend on the age of the series;
+     * with a COUNT, it starts at the series start, since every earlier occurrence counts towards the limit.
+     * Days are handled as epoch days, so a LocalDate is only created for a returned occurrence.
+     * @param start The start of the series.
+     * @param after Occurrences on or before this epoch day are skipped.
+     * @param to The last epoch day to visit.
+     * @param into Receives every occurrence in ({@code after}, {@code to}]; if null, the first such occurrence is returned instead.
+     * @return The first occurrence after {@code after} if {@code into} is null, otherwise null.
+     */
+    private LocalDate expand(final LocalDate start, final long after, final long to, final List<LocalDate> into) {
+        final long first = start.toEpochDay();
+        final long last = until == null ? to : Math.min(to, until.toEpochDay());
+        if (first > last) {
+            return null;
+        }
+        if (first > after) { // The series start is always its first occurrence
+            if (into == null) {
+                return start;
+            }
+            into.add(start);
+        }
+
+        final LocalDate firstPeriod = periodStart(start);
+        long period = count > 0 || first > after
+                ? 0
+                : frequency.unit.between(firstPeriod, periodStart(LocalDate.ofEpochDay(after))) / interval;
+        int occurrences = 1;
+        int emptyPeriods = 0;
+        while (emptyPeriods < MAX_EMPTY_PERIODS) {
+            final LocalDate periodFirst = firstPeriod.plus(period * interval, frequency.unit);
+            if (periodFirst.toEpochDay() > last) {
+                return null;
+            }
+            boolean empty = true;
+            final long periodFirstDay = periodFirst.toEpochDay();
+            final long rangeFirst = byDay ? periodFirstDay : candidateDay(start, periodFirst);
+            final long rangeLast = byDay ? periodLastDay(periodFirst) : rangeFirst;
+            for (long day = rangeFirst; day <= rangeLast && day != NO_DAY; day++) {
+                if (day <= first || !matches(day, (int) (day - periodFirstDay) + 1, periodFirst)) {
+                    continue;
+                }
+                if (day > last || (count > 0 && ++occurrences > count)) {
+                    return null;
+                }
+                empty = false;
+                if (day > after) {
+                    if (into == null) {
+                        return LocalDate.ofEpochDay(day);
+                    }
+                    into.add(LocalDate.ofEpochDay(day));
+                }
+            }
+            emptyPeriods = empty ? emptyPeriods + 1 : 0;
+            period++;
+        }
+        return null;
+    }
+
+    /**
+     * Helper method to return the first day of the period (day, week, month or year) containing a date.
+     */
+    private LocalDate periodStart(final LocalDate date) {
+        return switch (frequency) {
+            case DAILY -> date;
+            case WEEKLY -> date.minusDays(date.getDayOfWeek().getValue() - 1L);
+            case MONTHLY -> date.withDayOfMonth(1);
+            case YEARLY -> date.withDayOfYear(1);
+        };
+    }
+
+    /**
+     * Helper method to return the epoch day of the last day of a period.
+     */
+    private long periodLastDay(final LocalDate periodFirst) {
+        return switch (frequency) {
+            case DAILY -> periodFirst.toEpochDay();
+            case WEEKLY -> periodFirst.toEpochDay() + 6;
+            case MONTHLY -> periodFirst.toEpochDay() + periodFirst.lengthOfMonth() - 1;
+            case YEARLY -> periodFirst.toEpochDay() + periodFirst.lengthOfYear() - 1;
+        };
+    }
+
+    /**
+     * Helper method to return the only day of a period that can be an occurrence of a rule without BYDAY:
+     * the day with the same weekday, day of month, or month and day as the series start.
+     * Returns {@link #NO_DAY} if that day does not exist in this period (e.g. the 31st of a 30-day month).
+     */
+    private long candidateDay(final LocalDate start, final LocalDate periodFirst) {
+        final long first = periodFirst.toEpochDay();
+        switch (frequency) {
+            case DAILY:
+                return first;
+            case WEEKLY:
+                return first + start.getDayOfWeek().getValue() - 1;
+            case MONTHLY:
+                return start.getDayOfMonth() <= periodFirst.lengthOfMonth() ? first + start.getDayOfMonth() - 1 : NO_DAY;
+            default:
+                if (start.getMonthValue() == 2 && start.getDayOfMonth() == 29 && !periodFirst.isLeapYear()) {
+                    return NO_DAY;
+                }
+                return periodFirst.withMonth(start.getMonthValue()).withDayOfMonth(start.getDayOfMonth()).toEpochDay();
+        }
+    }
+
+    /**
+     * Helper method to check a day against BYDAY; every day matches if the rule has no BYDAY.
+     * @param day The epoch day.
+     * @param dayOfMonth The day's position in its period (its day of month in a monthly rule).
+     * @param periodFirst The first day of the day's period.
+     */
+    private boolean matches(final long day, final int dayOfMonth, final LocalDate periodFirst) {
+        if (!byDay) {
+            return true;
+        }
+        final int weekday = (int) Math.floorMod(day + 3, 7L); // 1970-01-01 was a Thursday; 0 = Monday
+        if ((weekdayMask >> weekday & 1) != 0) {
+            return true;
+        }
+        if (ordinalMasks == null || ordinalMasks[weekday] == 0) {
+            return false;
+        }
+        final int nth = (dayOfMonth - 1) / 7 + 1;
+        final int nthLast = -((periodFirst.lengthOfMonth() - dayOfMonth) / 7 + 1);
+        return (ordinalMasks[weekday] >> (nth + ORDINAL_OFFSET) & 1) != 0
+                || (ordinalMasks[weekday] >> (nthLast + ORDINAL_OFFSET) & 1) != 0;
+    }
+
+    /**
+     * Parses a recurrence pattern into a rule.
+     * @param pattern The pattern.
+     * @return The compiled rule.
+     * @throws IllegalArgumentException if the pattern is not a supported recurrence rule.
+     */
+    private static RecurrenceRule parse(final String pattern) {
+        String rule = pattern.trim().toUpperCase(Locale.ROOT);
+        if (rule.startsWith("RRULE:")) {
+            rule = rule.substring("RRULE:".length());
+        }
+        if (!rule.contains("=")) {
+            rule = "FREQ=" + rule; // Shorthand such as WEEKLY
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        int weekdayMask = 0;
+        int[] ordinalMasks = null;
+        int count = 0;
+        LocalDate until = null;
+        for (final String part : rule.split(";")) {
+            final int separator = part.indexOf('=');
+            final String name = separator < 0 ? part : part.substring(0, separator);
+            final String value = separator < 0 ? "" : part.substring(separator + 1);
+            switch (name) {
+                case "FREQ":
+                    try {
+                        frequency = Frequency.valueOf(value);
+                    } catch (final IllegalArgumentException e) {
+                        throw invalid(pattern, "unsupported FREQ " + value);
+                    }
+                    break;
+                case "INTERVAL":
+                    interval = parsePositive(pattern, name, value);
+                    break;
+                case "COUNT":
+                    count = parsePositive(pattern, name, value);
+                    break;
+                case "UNTIL":
+                    try {
+                        // A date-time UNTIL is truncated to its date, since chores are due on days
+                        until = LocalDate.parse(value.length() > 8 && value.charAt(8) == 'T' ? value.substring(0, 8) : value,
+                                DateTimeFormatter.BASIC_ISO_DATE);
+                    } catch (final DateTimeException e) {
+                        throw invalid(pattern, "UNTIL must be a date such as 20251231");
+                    }
+                    break;
+                case "BYDAY":
+                    for (final String entry : value.split(",")) {
+                        final Matcher matcher = BY_DAY.matcher(entry);
+                        if (!matcher.matches()) {
+                            throw invalid(pattern, "unsupported BYDAY entry " + entry);
+                        }
+                        final int weekday = WEEKDAY_CODES.indexOf(matcher.group(2));
+                        if (matcher.group(1) == null) {
+                            weekdayMask |= 1 << weekday;
+                        } else {
+                            if (ordinalMasks == null) {
+                                ordinalMasks = new int[DayOfWeek.values().length];
+                            }
+                            ordinalMasks[weekday] |= 1 << (Integer.parseInt(matcher.group(1)) + ORDINAL_OFFSET);
+                        }
+                    }
+                    break;
+                case "WKST":
+                    if (!value.equals("MO")) {
+                        throw invalid(pattern, "only WKST=MO is supported");
+                    }
+                    break;
+                default:
+                    throw invalid(pattern, "unsupported part " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw invalid(pattern, "FREQ is required");
+        }
+        if (count > 0 && until != null) {
+            throw invalid(pattern, "COUNT and UNTIL cannot both be set");
+        }
+        if (frequency == Frequency.YEARLY && (weekdayMask != 0 || ordinalMasks != null)) {
+            throw invalid(pattern, "BYDAY is not supported in yearly rules");
+        }
+        if (frequency != Frequency.MONTHLY && ordinalMasks != null) {
+            throw invalid(pattern, "BYDAY ordinals such as 1MO are only supported in monthly rules");
+        }
+        return new RecurrenceRule(frequency, interval, weekdayMask, ordinalMasks, count, until);
+    }
+
+    private static int parsePositive(final String pattern, final String name, final String value) {
+        try {
+            final int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (final NumberFormatException e) {
+            // Reported below
+        }
+        throw invalid(pattern, name + " must be a positive number");
+    }
+
+    private static IllegalArgumentException invalid(final String pattern, final String reason) {
+        return new IllegalArgumentException("Invalid recurrence pattern '" + pattern + "': " + reason + ".");
+    }
+}
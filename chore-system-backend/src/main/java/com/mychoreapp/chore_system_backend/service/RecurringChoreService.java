@@ -0,0 +1,168 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service class for advancing recurring chores to their next cycle.
+ * Completing a recurring chore records the completion and deactivates the chore in the same transaction, so it
+ * disappears from active lists and cannot be completed twice; this service's scheduled task later creates the next
+ * instance of every recurring chore that was completed, and of every active one whose due date has passed
+ * (which it deactivates too).
+ * Instances are not created ahead of their cycle: closing the current cycle would still take a write in the completion
+ * transaction, as only a conditional UPDATE of the chore keeps two concurrent completions from both succeeding.
+ * Chores are processed in batches, each in its own transaction, and the new instances are inserted with JDBC batching.
+ * The created instances are counted (metric chores.recurring.instances.spawned).
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class RecurringChoreService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringChoreService.class);
+    private static final String DEFAULT_PATTERN = "DAILY"; // Used for chores without a valid recurrence pattern
+
+    private final IChoreRepository choreRepository;
+    private final ChoreReminderService choreReminderService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter instancesSpawned;
+
+    /**
+     * Constructor for dependency injection.
+     * @param choreRepository The chore repository to be injected.
+     * @param choreReminderService The service whose reminders for advanced chores are cancelled.
+     * @param transactionTemplate The template used to run each batch in its own transaction.
+     * @param batchSize The maximum number of chores advanced per transaction.
+     * @param meterRegistry The registry the created instances are counted in.
+     */
+    @Autowired
+    public RecurringChoreService(final IChoreRepository choreRepository,
+                                 final ChoreReminderService choreReminderService,
+                                 final TransactionTemplate transactionTemplate,
+                                 @Value("${recurring-chores.batch-size:500}") final int batchSize,
+                                 final MeterRegistry meterRegistry) {
+        this.choreRepository = choreRepository;
+        this.choreReminderService = choreReminderService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.instancesSpawned = meterRegistry.counter(MetricsConfig.RECURRING_INSTANCES_SPAWNED);
+    }
+
+    /**
+     * Scheduled task that creates the next instance of every recurring chore that is ready to advance.
+     * Runs every minute by default, so a completed recurring chore is replaced shortly after its completion.
+     */
+    @Scheduled(cron = "${recurring-chores.materialize-cron:0 * * * * *}")
+    public void materializeNextInstances() {
+        final LocalDate today = LocalDate.now();
+        long afterId = 0L;
+        int advanced = 0;
+        List<Chore> batch;
+        do {
+            final long cursor = afterId;
+            batch = transactionTemplate.execute(status -> advanceBatch(cursor, today));
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+                advanced += batch.size();
+            }
+        } while (batch.size() == batchSize);
+        if (advanced > 0) {
+            log.info("Advanced {} recurring chores to their next cycle", advanced);
+        }
+    }
+
+    /**
+     * Advances one batch of recurring chores: a new instance is created for the next cycle of each chore
+     * (unless its series has ended), and the chore itself is set to inactive and no longer awaits its next instance.
+     * Chores locked by another transaction (e.g. the same task running on another server) are skipped.
+     * @param afterId The ID of the last chore of the previous batch (0 for the first batch).
+     * @param today The current date.
+     * @return The chores that were advanced, in ID order.
+     */
+    private List<Chore> advanceBatch(final long afterId, final LocalDate today) {
+        final List<Chore> chores = choreRepository.findRecurringChoresToAdvance(afterId, today, PageRequest.of(0, batchSize));
+        final List<Chore> nextInstances = new ArrayList<>(chores.size());
+        for (final Chore chore : chores) {
+            final Chore nextInstance = createNextInstance(chore, today);
+            if (nextInstance != null) {
+                nextInstances.add(nextInstance);
+            }
+            chore.setActive(false); // Flushed with the inserts at commit, as a batched UPDATE
+            chore.setNextInstancePending(false);
+            choreReminderService.cancelReminder(chore.getId()); // New instances are unassigned, so they get no reminder
+        }
+        choreRepository.saveAll(nextInstances);
+        TransactionCallbacks.runAfterCommit(() -> instancesSpawned.increment(nextInstances.size()));
+        return chores;
+    }
+
+    /**
+     * Creates the instance of a recurring chore for its next cycle.
+     * The new instance keeps the chore's properties, is unassigned, and is due on the first occurrence of the
+     * chore's recurrence rule that is after its current due date and not in the past, so cycles that were missed
+     * entirely are skipped.
+     * @param chore The recurring chore to advance.
+     * @param today The current date.
+     * @return The new, unsaved Chore instance, or null if the chore's series has ended (COUNT or UNTIL).
+     */
+    private Chore createNextInstance(final Chore chore, final LocalDate today) {
+        // A chore without a due date is treated as due today, and a series without a start starts at the current instance
+        final LocalDate dueDate = chore.getDueDate() == null ? today : chore.getDueDate();
+        final LocalDate seriesStart = chore.getRecurrenceStart() == null ? dueDate : chore.getRecurrenceStart();
+        final LocalDate nextDueDate = ruleOf(chore).nextAfter(seriesStart, dueDate.isBefore(today) ? today.minusDays(1) : dueDate);
+        if (nextDueDate == null) {
+            return null;
+        }
+
+        final Chore nextChoreInstance = new Chore(
+            chore.getName(),
+            chore.getDescription(),
+            chore.getPointsValue(),
+            nextDueDate,
+            chore.getTribe()
+        );
+
+        // Copy recurrence properties to the new instance
+        nextChoreInstance.setRecurring(true);
+        nextChoreInstance.setRecurrencePattern(chore.getRecurrencePattern());
+        nextChoreInstance.setRecurrenceStart(seriesStart);
+
+        // Unassign the new instance by default for the next cycle
+        nextChoreInstance.setAssignedTo(null);
+        nextChoreInstance.setActive(true);
+        return nextChoreInstance;
+    }
+
+    /**
+     * Helper method to return the compiled recurrence rule of a chore.
+     * Chores saved before patterns were validated may have a missing or unsupported pattern; they recur daily.
+     * @param chore The recurring chore.
+     * @return The chore's recurrence rule.
+     */
+    private RecurrenceRule ruleOf(final Chore chore) {
+        if (chore.getRecurrencePattern() != null) {
+            try {
+                return RecurrenceRule.compile(chore.getRecurrencePattern());
+            } catch (final IllegalArgumentException e) {
+                log.warn("{} Chore {} recurs daily instead.", e.getMessage(), chore.getId());
+            }
+        }
+        return RecurrenceRule.compile(DEFAULT_PATTERN);
+    }
+}
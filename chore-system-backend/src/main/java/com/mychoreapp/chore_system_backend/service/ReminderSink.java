@@ -0,0 +1,16 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.ChoreReminder;
+
+/**
+ * Delivers due-date reminders fired by ChoreReminderService, e.g. as push notifications or e-mails.
+ * LoggingReminderSink is used unless another implementation is declared as the primary bean.
+ */
+public interface ReminderSink {
+
+    /**
+     * Delivers a reminder. Called on the scheduler thread; slow deliveries should be handed off to another thread.
+     * @param reminder The reminder to deliver.
+     */
+    void send(ChoreReminder reminder);
+}
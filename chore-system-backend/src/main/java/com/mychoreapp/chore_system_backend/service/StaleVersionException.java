@@ -0,0 +1,17 @@
+package com.mychoreapp.chore_system_backend.service;
+
+/**
+ * Thrown when a client updates a chore based on an outdated copy: the version it read is no longer the current one.
+ * Unlike a ConcurrentUpdateException, it is never retried, as only the client can reconcile its changes with the newer ones.
+ * Controllers map it to 409 (Conflict).
+ */
+public class StaleVersionException extends RuntimeException {
+
+    /**
+     * Creates the exception.
+     * @param message The detail message.
+     */
+    public StaleVersionException(final String message) {
+        super(message);
+    }
+}
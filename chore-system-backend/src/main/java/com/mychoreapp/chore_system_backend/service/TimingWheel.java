@@ -0,0 +1,167 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel: schedules keyed payloads to expire at a given tick.
+ * Level 0 has one slot per tick; each slot of level L spans all the slots of level L - 1, so a few levels of
+ * 2^slotBits slots cover a long time range. An entry is placed on the lowest level whose range reaches its tick, and is
+ * moved down a level (cascaded) when time reaches the start of its slot, until it expires from level 0.
+ * Scheduling and cancelling cost O(1); advancing by one tick costs O(1) plus the entries that expire or are cascaded,
+ * and each entry is cascaded at most once per level.
+ * Ticks beyond the range of the top level wait in its furthest slot and are placed again when it is cascaded.
+ * All methods are synchronized; a wheel is shared between request threads and the thread that advances it.
+ * @param <T> The type of the scheduled payloads.
+ */
+final class TimingWheel<T> {
+
+    /**
+     * A scheduled payload, linked into the slot that holds it. Each slot has a sentinel entry, so unlinking needs no slot lookup.
+     */
+    private static final class Entry<T> {
+        private final long key;
+        private final long tick;
+        private final T payload;
+        private Entry<T> prev = this;
+        private Entry<T> next = this;
+
+        private Entry(final long key, final long tick, final T payload) {
+            this.key = key;
+            this.tick = tick;
+            this.payload = payload;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+
+    private final int slotBits;
+    private final long slotMask;
+    private final int levels;
+    private final Entry<T>[][] slots; // Sentinel of each slot, per level
+    private final Map<Long, Entry<T>> entries = new HashMap<>(); // key -> scheduled entry
+    private long currentTick; // The last tick that has been processed
+
+    /**
+     * Creates an empty wheel.
+     * @param slotBits The number of slots per level, as a power of two.
+     * @param levels The number of levels; the wheel spans 2^(slotBits * levels) ticks.
+     * @param currentTick The tick the wheel starts at; entries are due after it.
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(final int slotBits, final int levels, final long currentTick) {
+        this.slotBits = slotBits;
+        this.slotMask = (1L << slotBits) - 1;
+        this.levels = levels;
+        this.slots = (Entry<T>[][]) new Entry<?>[levels][1 << slotBits];
+        for (final Entry<T>[] level : slots) {
+            for (int slot = 0; slot < level.length; slot++) {
+                level[slot] = new Entry<>(0, 0, null);
+            }
+        }
+        this.currentTick = currentTick;
+    }
+
+    /**
+     * Schedules a payload, replacing any payload scheduled under the same key.
+     * @param key The key, used to cancel or replace the payload.
+     * @param tick The tick at which the payload expires; ticks that have already passed expire on the next tick.
+     * @param payload The payload.
+     */
+    synchronized void schedule(final long key, final long tick, final T payload) {
+        cancel(key);
+        final Entry<T> entry = new Entry<>(key, Math.max(tick, currentTick + 1), payload);
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * Cancels the payload scheduled under a key.
+     * @param key The key.
+     * @return True if a payload was scheduled under the key.
+     */
+    synchronized boolean cancel(final long key) {
+        final Entry<T> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.unlink();
+        return true;
+    }
+
+    /**
+     * Processes every tick up to and including the given one.
+     * @param tick The tick to advance to; ticks that have already been processed are ignored.
+     * @return The payloads that expired, in expiry order.
+     */
+    synchronized List<T> advanceTo(final long tick) {
+        final List<T> expired = new ArrayList<>();
+        while (currentTick < tick) {
+            final long next = currentTick + 1;
+            // Move down the entries of every level whose slot starts at this tick, highest level first
+            for (int level = levels - 1; level > 0; level--) {
+                if ((next & ((1L << (slotBits * level)) - 1)) == 0) {
+                    cascade(slots[level][(int) ((next >> (slotBits * level)) & slotMask)]);
+                }
+            }
+            final Entry<T> sentinel = slots[0][(int) (next & slotMask)];
+            while (sentinel.next != sentinel) {
+                final Entry<T> entry = sentinel.next;
+                entry.unlink();
+                entries.remove(entry.key);
+                expired.add(entry.payload);
+            }
+            currentTick = next;
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the number of scheduled payloads.
+     * @return The number of scheduled payloads.
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Helper method to link an entry into the slot of the lowest level whose range reaches its tick,
+     * counting from the next tick to be processed.
+     */
+    private void place(final Entry<T> entry) {
+        final long base = currentTick + 1;
+        final long delay = entry.tick - base;
+        int level = 0;
+        while (level < levels - 1 && delay >= 1L << (slotBits * (level + 1))) {
+            level++;
+        }
+        // A tick beyond the top level's range waits in its furthest slot
+        final long slotTick = Math.min(entry.tick, base + (1L << (slotBits * levels)) - 1);
+        final Entry<T> sentinel = slots[level][(int) ((slotTick >> (slotBits * level)) & slotMask)];
+        entry.prev = sentinel.prev;
+        entry.next = sentinel;
+        sentinel.prev.next = entry;
+        sentinel.prev = entry;
+    }
+
+    /**
+     * Helper method to empty a slot and place its entries again, which moves them to lower levels.
+     */
+    private void cascade(final Entry<T> sentinel) {
+        Entry<T> entry = sentinel.next;
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        while (entry != sentinel) {
+            final Entry<T> following = entry.next;
+            place(entry);
+            entry = following;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.dto.ChoreCompletedEvent;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service class for pushing tribe activity to open dashboards as Server-Sent Events, instead of having them poll.
+ * Each tribe's subscribers share one channel: an event is serialized once and queued for every subscriber of its tribe.
+ * Each subscriber has a small bounded buffer that a shared pool of sender threads drains; a subscriber whose buffer
+ * is full (a client that reads slower than events arrive, or not at all) is disconnected rather than slowing the others
+ * or growing its buffer, and can reconnect (browsers' EventSource does so automatically).
+ * A write to a client that has stopped reading holds its sender thread until the write times out
+ * (server.tomcat.connection-timeout), so there should be a few more sender threads than such clients at a time.
+ * Between events an open stream holds no thread, only its connection; a comment line is sent periodically
+ * so proxies keep idle streams open and dead connections are noticed.
+ */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
+@Service
+public class TribeActivityBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(TribeActivityBroadcaster.class);
+    private static final String COMPLETION_EVENT = "completion";
+    private static final String LEADERBOARD_EVENT = "leaderboard";
+    private static final int LEADERBOARD_SIZE = 10; // Entries of the leaderboard sent when a stream opens
+
+    /**
+     * An event serialized for sending.
+     */
+    private record Message(String name, String json) {
+    }
+
+    private final LeaderboardService leaderboardService;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final ExecutorService senders;
+    private final Map<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>(); // tribeId -> open streams
+    private final AtomicInteger subscriberCount; // Published as the tribe.activity.subscribers gauge
+
+    /**
+     * Constructor for dependency injection.
+     * @param leaderboardService The service whose leaderboard is sent to new subscribers.
+     * @param objectMapper The mapper the events are serialized with.
+     * @param bufferSize The maximum number of events waiting to be sent to one subscriber.
+     * @param timeout How long a stream stays open before the client has to reconnect.
+     * @param senderThreads The number of threads that write events to the streams.
+     * @param meterRegistry The registry the number of open streams is published in.
+     */
+    @Autowired
+    public TribeActivityBroadcaster(final LeaderboardService leaderboardService,
+                                    final ObjectMapper objectMapper,
+                                    @Value("${tribe-activity.buffer-size:32}") final int bufferSize,
+                                    @Value("${tribe-activity.timeout:PT1H}") final Duration timeout,
+                                    @Value("${tribe-activity.sender-threads:4}") final int senderThreads,
+                                    final MeterRegistry meterRegistry) {
+        this.leaderboardService = leaderboardService;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "tribe-activity-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.subscriberCount = meterRegistry.gauge(MetricsConfig.ACTIVITY_SUBSCRIBERS, new AtomicInteger());
+    }
+
+    /**
+     * Opens a stream of a tribe's activity. The first event is the tribe's current top ten (leaderboard),
+     * followed by every chore completion (completion) committed from then on.
+     * @param tribeId The ID of the tribe.
+     * @return The emitter of the stream.
+     */
+    public SseEmitter subscribe(final Long tribeId) {
+        final Subscriber subscriber = new Subscriber(tribeId, new SseEmitter(timeoutMillis));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        channels.compute(tribeId, (id, subscribers) -> { // Added atomically, as remove() drops channels once empty
+            final Set<Subscriber> channel = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            channel.add(subscriber);
+            return channel;
+        });
+        subscriberCount.incrementAndGet();
+        subscriber.offer(serialize(LEADERBOARD_EVENT,
+                leaderboardService.getTopUsers(tribeId, LeaderboardPeriod.ALL_TIME, LEADERBOARD_SIZE)));
+        return subscriber.emitter;
+    }
+
+    /**
+     * Pushes a committed chore completion to the subscribers of its tribe.
+     * @param event The completion.
+     */
+    @EventListener
+    public void onChoreCompleted(final ChoreCompletedEvent event) {
+        final Set<Subscriber> subscribers = channels.get(event.tribeId());
+        if (subscribers == null) {
+            return; // Nobody is watching; not even serialized
+        }
+        final Message message = serialize(COMPLETION_EVENT, event);
+        for (final Subscriber subscriber : subscribers) {
+            subscriber.offer(message);
+        }
+    }
+
+    /**
+     * Scheduled task that sends a comment line to every open stream, so idle streams are not closed by proxies
+     * and streams whose client has gone away are removed.
+     */
+    @Scheduled(cron = "${tribe-activity.heartbeat-cron:*/30 * * * * *}")
+    public void sendHeartbeats() {
+        final Message heartbeat = new Message(null, null);
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(heartbeat)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Helper method to remove a closed stream from its tribe's channel, and the channel once it is empty.
+     */
+    private void remove(final Subscriber subscriber) {
+        subscriber.closed = true;
+        channels.computeIfPresent(subscriber.tribeId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private Message serialize(final String name, final Object payload) {
+        try {
+            return new Message(name, objectMapper.writeValueAsString(payload));
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + name + " event", e);
+        }
+    }
+
+    /**
+     * One open stream and its buffer of events waiting to be sent.
+     * At most one sender thread drains a buffer at a time, so events are sent in order.
+     */
+    private final class Subscriber {
+
+        private final Long tribeId;
+        private final SseEmitter emitter;
+        private final Queue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(final Long tribeId, final SseEmitter emitter) {
+            this.tribeId = tribeId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues an event for sending, or disconnects the subscriber if its buffer is full.
+         */
+        private void offer(final Message message) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(message)) {
+                log.debug("Disconnecting a slow subscriber of tribe {}", tribeId);
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * Sends the buffered events, on a sender thread.
+         */
+        private void drain() {
+            do {
+                Message message;
+                while (!closed && (message = buffer.poll()) != null) {
+                    try {
+                        emitter.send(message.name() == null
+                                ? SseEmitter.event().comment("")
+                                : SseEmitter.event().name(message.name()).data(message.json(), MediaType.APPLICATION_JSON));
+                    } catch (final IOException | IllegalStateException e) {
+                        remove(this); // The client has gone away, or the stream was completed
+                        return;
+                    }
+                }
+                draining.set(false);
+                // An event queued after the last poll but before the flag was cleared found draining set; send it too
+            } while (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
@@ -2,29 +2,36 @@ package com.mychoreapp.chore_system_backend.service;
 
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import com.mychoreapp.chore_system_backend.dto.CursorPage;
 import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
 import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import io.micrometer.core.annotation.Timed;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
  * Service class for managing Tribe-related business logic.
  * It interacts with the ITribeRepository to perform database operations.
  */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
 @Service
 public class TribeService {
 
     private final ITribeRepository tribeRepository;
+    private final EntityCacheService entityCacheService;
 
     /**
      * Constructor for dependency injection.
      * Spring automatically injects an instance of ITribeRepository.
      * @param tribeRepository The repository to be injected.
+     * @param entityCacheService The service used to evict cached tribe lookups.
      */
     @Autowired
-    public TribeService(final ITribeRepository tribeRepository) {
+    public TribeService(final ITribeRepository tribeRepository, final EntityCacheService entityCacheService) {
         this.tribeRepository = tribeRepository;
+        this.entityCacheService = entityCacheService;
     }
 
     /**
@@ -75,11 +82,13 @@ public class TribeService {
     }
 
     /**
-     * Retrieves all tribes.
-     * @return A list of all Tribes.
+     * Retrieves one page of all tribes, in ID order.
+     * @param afterId The ID of the last tribe on the previous page (0 for the first page).
+     * @param size The maximum number of tribes on the page.
+     * @return A page of Tribes with the cursor for the next page.
      */
-    public List<Tribe> getAllTribes() {
-        return tribeRepository.findAll();
+    public CursorPage<Tribe> getAllTribes(final Long afterId, final int size) {
+        return CursorPage.of(tribeRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size)), Tribe::getId);
     }
 
     /**
@@ -100,7 +109,11 @@ public class TribeService {
             throw new IllegalArgumentException("Tribe name already exists: " + tribe.getName());
         }
 
-        return tribeRepository.save(tribe); // Save the updated tribe
+        // Remember the cached version so its name and join code entries can be evicted after the update
+        final Optional<Tribe> previousTribe = tribeRepository.findById(tribe.getId());
+        final Tribe updatedTribe = tribeRepository.save(tribe); // Save the updated tribe
+        previousTribe.ifPresent(entityCacheService::evictTribe);
+        return updatedTribe;
     }
 
     /**
@@ -108,6 +121,8 @@ public class TribeService {
      * @param id The ID of the tribe to delete.
      */
     public void deleteTribe(final Long id) {
+        final Optional<Tribe> previousTribe = tribeRepository.findById(id);
         tribeRepository.deleteById(id);
+        previousTribe.ifPresent(entityCacheService::evictTribe);
     }
 }
\ No newline at end of file
@@ -1,13 +1,20 @@
 package com.mychoreapp.chore_system_backend.service;
 
+import com.mychoreapp.chore_system_backend.config.MetricsConfig;
+import com.mychoreapp.chore_system_backend.dto.CursorPage;
+import com.mychoreapp.chore_system_backend.model.OutboxEventType;
 import com.mychoreapp.chore_system_backend.model.Tribe;
 import com.mychoreapp.chore_system_backend.model.User;
 import com.mychoreapp.chore_system_backend.repository.IUserRepository;
 import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -15,23 +22,44 @@ import java.util.Optional;
  * Service class for managing User-related business logic.
  * It interacts with the IUserRepository to perform database operations.
  */
+@Timed(MetricsConfig.SERVICE_INVOCATIONS)
 @Service // Marks this class as a Spring service component
 public class UserService {
 
     private final IUserRepository userRepository; 
     private final ITribeRepository tribeRepository;
+    private final LeaderboardService leaderboardService;
+    private final EntityCacheService entityCacheService;
+    private final OptimisticRetry optimisticRetry;
+    private final OutboxService outboxService;
+    private final EntityManager entityManager;
 
     /**
      * Constructor for dependency injection.
      * Spring automatically injects an instance of IUserRepository.
      * @param userRepository The repository to be injected.
      * @param tribeRepository The repository to be injected.
+     * @param leaderboardService The leaderboard service to be injected.
+     * @param entityCacheService The service used to evict cached user lookups.
+     * @param optimisticRetry The helper that retries updates conflicting with concurrent ones.
+     * @param outboxService The service tribe joins are written to the outbox with.
+     * @param entityManager The JPA EntityManager, used to detach users whose points were updated in the database.
      */
     @Autowired // This annotation tells Spring to inject the IUserRepository dependency
     public UserService(final IUserRepository userRepository, 
-                       final ITribeRepository tribeRepository) {
+                       final ITribeRepository tribeRepository,
+                       final LeaderboardService leaderboardService,
+                       final EntityCacheService entityCacheService,
+                       final OptimisticRetry optimisticRetry,
+                       final OutboxService outboxService,
+                       final EntityManager entityManager) {
         this.userRepository = userRepository;
         this.tribeRepository = tribeRepository;
+        this.leaderboardService = leaderboardService;
+        this.entityCacheService = entityCacheService;
+        this.optimisticRetry = optimisticRetry;
+        this.outboxService = outboxService;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -96,24 +124,40 @@ public class UserService {
     }
 
     /**
-     * Retrieves all users.
-     * @return A list of all User objects.
+     * Retrieves one page of all users, in ID order.
+     * @param afterId The ID of the last user on the previous page (0 for the first page).
+     * @param size The maximum number of users on the page.
+     * @return A page of User objects with the cursor for the next page.
      */
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<User> getAllUsers(final Long afterId, final int size) {
+        return CursorPage.of(userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size)), User::getId);
     }
 
     /**
      * Updates an existing user's points.
+     * The points are added with an atomic database increment, so concurrent updates are never lost.
+     * Non-positive values leave the points unchanged, as with User.addPoints.
+     * Cached lookups of the user and the tribe leaderboard are updated once the transaction commits.
      * @param id The ID of the user to update.
      * @param pointsToAdd The number of points to add.
      * @return The updated User object, or empty if user not found.
      */
+    @Transactional
     public Optional<User> addPointsToUser(final Long id, final int pointsToAdd) {
-        return userRepository.findById(id).map(user -> {
-            user.addPoints(pointsToAdd); 
-            return userRepository.save(user); 
-        });
+        final Optional<User> optionalUser = userRepository.findById(id);
+        if (optionalUser.isEmpty() || pointsToAdd <= 0) {
+            return optionalUser;
+        }
+        final User user = optionalUser.get();
+        final Optional<Integer> newTotal = userRepository.incrementPoints(id, pointsToAdd);
+        if (newTotal.isEmpty()) {
+            return Optional.empty(); // Deleted concurrently
+        }
+        entityManager.detach(user); // So the new total on it is not written back
+        user.setPoints(newTotal.get());
+        entityCacheService.evictUser(user);
+        leaderboardService.updateUserScore(user, newTotal.get());
+        return Optional.of(user);
     }
 
     /**
@@ -121,7 +165,10 @@ public class UserService {
      * @param id The ID of the user to delete.
      */
     public void deleteUser(final Long id) {
+        final Optional<User> optionalUser = userRepository.findById(id);
         userRepository.deleteById(id); 
+        optionalUser.ifPresent(entityCacheService::evictUser);
+        leaderboardService.removeUserFromAllTribes(id);
     }
 
     /**
@@ -130,9 +177,17 @@ public class UserService {
      * @param joinCode The join code of the tribe to join.
      * @return An Optional containing the updated User object if successful, or empty if user or tribe not found.
      * @throws IllegalArgumentException if the user is already in a tribe or if the join code is invalid.
+     * @throws ConcurrentUpdateException if the user kept being changed concurrently.
      */
     public Optional<User> joinTribe(final Long userId, final String joinCode) {
-        final Optional<User> optionalUser = userRepository.findById(userId);
+        return optimisticRetry.execute(() -> applyJoinTribe(userId, joinCode));
+    }
+
+    /**
+     * Helper method for joinTribe: loads the current user and applies one attempt of the change, in the caller's transaction.
+     */
+    private Optional<User> applyJoinTribe(final Long userId, final String joinCode) {
+        final Optional<User> optionalUser = userRepository.findCurrentById(userId);
         if (optionalUser.isEmpty()) {
             return Optional.empty();
         }
@@ -154,7 +209,14 @@ public class UserService {
         
         // set the tribe for the user
         user.setTribe(tribe);
-        return Optional.of(userRepository.save(user));
+        final User savedUser = userRepository.save(user);
+        entityCacheService.evictUser(savedUser);
+        leaderboardService.updateUserScore(savedUser);
+        outboxService.append(OutboxEventType.USER_JOINED_TRIBE, tribe.getId(), Map.of(
+                "userId", savedUser.getId(),
+                "tribeId", tribe.getId(),
+                "displayName", savedUser.getUsername() != null ? savedUser.getUsername() : savedUser.getName()));
+        return Optional.of(savedUser);
     }
 
     /**
@@ -162,9 +224,17 @@ public class UserService {
      * @param userId The ID of the user to remove from a tribe.
      * @return An Optional containing the updated User object if successful, or empty if user not found.
      * @throws IllegalArgumentException if the user is not currently in a tribe.
+     * @throws ConcurrentUpdateException if the user kept being changed concurrently.
      */
     public Optional<User> leaveTribe(final Long userId) {
-        final Optional<User> optionalUser = userRepository.findById(userId);
+        return optimisticRetry.execute(() -> applyLeaveTribe(userId));
+    }
+
+    /**
+     * Helper method for leaveTribe: loads the current user and applies one attempt of the change, in the caller's transaction.
+     */
+    private Optional<User> applyLeaveTribe(final Long userId) {
+        final Optional<User> optionalUser = userRepository.findCurrentById(userId);
         if (optionalUser.isEmpty()) {
             return Optional.empty();
         }
@@ -177,7 +247,11 @@ public class UserService {
         }
 
         // Set the user's tribe to null to remove them from the tribe
+        final Long formerTribeId = user.getTribe().getId();
         user.setTribe(null);
-        return Optional.of(userRepository.save(user));
+        final User savedUser = userRepository.save(user);
+        entityCacheService.evictUser(savedUser);
+        leaderboardService.removeUser(formerTribeId, userId);
+        return Optional.of(savedUser);
     }
 }
\ No newline at end of file
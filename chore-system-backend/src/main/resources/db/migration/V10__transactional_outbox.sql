@@ -0,0 +1,24 @@
+-- Transactional outbox (see OutboxService and OutboxRelay): events are inserted in the same transaction as the
+-- change they describe, and relayed to the outbox sinks afterwards. Each sink's progress is kept in outbox_checkpoints.
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id bigint PRIMARY KEY,
+    event_type varchar(64) NOT NULL,
+    tribe_id bigint,
+    payload jsonb NOT NULL,
+    created_at timestamp NOT NULL,
+    -- The writing transaction. IDs are allocated before commit, so an event can commit after one with a higher ID;
+    -- relays therefore read in (txid, id) order, and only events of transactions older than every running one
+    txid xid8 NOT NULL DEFAULT pg_current_xact_id()
+);
+
+CREATE INDEX IF NOT EXISTS outbox_events_txid_id_idx ON outbox_events (txid, id);
+CREATE INDEX IF NOT EXISTS outbox_events_created_at_idx ON outbox_events (created_at);
+
+-- The position of the last event delivered to each sink
+CREATE TABLE IF NOT EXISTS outbox_checkpoints (
+    sink varchar(64) PRIMARY KEY,
+    last_txid xid8 NOT NULL,
+    last_event_id bigint NOT NULL
+);
@@ -0,0 +1,12 @@
+-- Idempotency keys of chore completion requests (see IdempotencyService): the completion recorded for each key,
+-- so a retried request is answered with the original completion instead of recording another one.
+-- Keys expire after idempotency.ttl and are then deleted, or taken over by a new request with the same key.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key varchar(255) PRIMARY KEY,
+    chore_id bigint NOT NULL,
+    user_id bigint NOT NULL,
+    completion_id bigint NOT NULL,
+    created_at timestamp NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idempotency_keys_created_at_idx ON idempotency_keys (created_at);
@@ -0,0 +1,11 @@
+-- Completing a recurring chore now deactivates it in the completion transaction, so it cannot be completed twice,
+-- and marks it as awaiting its next instance, which the scheduled task (RecurringChoreService) creates.
+ALTER TABLE chores ADD COLUMN IF NOT EXISTS next_instance_pending boolean NOT NULL DEFAULT false;
+
+-- Recurring chores completed before this migration but not yet advanced are marked the same way
+UPDATE chores SET is_active = false, next_instance_pending = true
+WHERE is_active AND is_recurring AND EXISTS (SELECT 1 FROM chore_completions cc WHERE cc.chore_id = chores.id);
+
+-- The task scans the active recurring chores and the completed ones awaiting their next instance, in ID order
+CREATE INDEX IF NOT EXISTS chores_recurring_to_advance_idx ON chores (id) WHERE is_recurring AND (is_active OR next_instance_pending);
+DROP INDEX IF EXISTS chores_active_recurring_idx;
@@ -0,0 +1,56 @@
+-- Baseline schema, as previously generated by Hibernate (ddl-auto=update).
+-- Databases created before schema migrations were versioned already have these tables,
+-- so every statement is a no-op there (see spring.flyway.baseline-on-migrate).
+CREATE TABLE IF NOT EXISTS tribes (
+    id bigint NOT NULL,
+    join_code varchar(255) NOT NULL,
+    name varchar(255) NOT NULL,
+    CONSTRAINT tribes_pkey PRIMARY KEY (id),
+    CONSTRAINT tribes_join_code_key UNIQUE (join_code),
+    CONSTRAINT tribes_name_key UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id bigint NOT NULL,
+    authentication_type varchar(255) NOT NULL,
+    email varchar(255),
+    google_id varchar(255),
+    name varchar(255),
+    password varchar(255),
+    points integer NOT NULL,
+    profile_picture_url varchar(255),
+    username varchar(255),
+    tribe_id bigint,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT users_email_key UNIQUE (email),
+    CONSTRAINT users_google_id_key UNIQUE (google_id),
+    CONSTRAINT users_username_key UNIQUE (username),
+    CONSTRAINT users_tribe_id_fkey FOREIGN KEY (tribe_id) REFERENCES tribes (id)
+);
+
+CREATE TABLE IF NOT EXISTS chores (
+    id bigint NOT NULL,
+    description text,
+    due_date date,
+    is_active boolean NOT NULL,
+    is_recurring boolean NOT NULL,
+    name varchar(255) NOT NULL,
+    points_value integer NOT NULL,
+    recurrence_pattern varchar(255),
+    assigned_user_id bigint,
+    tribe_id bigint NOT NULL,
+    CONSTRAINT chores_pkey PRIMARY KEY (id),
+    CONSTRAINT chores_assigned_user_id_fkey FOREIGN KEY (assigned_user_id) REFERENCES users (id),
+    CONSTRAINT chores_tribe_id_fkey FOREIGN KEY (tribe_id) REFERENCES tribes (id)
+);
+
+CREATE TABLE IF NOT EXISTS chore_completions (
+    id bigint NOT NULL,
+    completion_date timestamp(6) NOT NULL,
+    points_awarded integer NOT NULL,
+    chore_id bigint NOT NULL,
+    completed_by_user_id bigint NOT NULL,
+    CONSTRAINT chore_completions_pkey PRIMARY KEY (id),
+    CONSTRAINT chore_completions_chore_id_fkey FOREIGN KEY (chore_id) REFERENCES chores (id),
+    CONSTRAINT chore_completions_completed_by_user_id_fkey FOREIGN KEY (completed_by_user_id) REFERENCES users (id)
+);
@@ -0,0 +1,24 @@
+-- Creates the pooled ID sequences used by the entities (allocationSize = 50) and migrates
+-- tables that were created with IDENTITY ids.
+-- A no-op for sequences that already exist (databases set up before schema migrations were versioned).
+-- For an existing table, the sequence starts right after the current MAX(id) and the IDENTITY
+-- default is dropped, since Hibernate now assigns ids itself. Stop any instance still running
+-- the IDENTITY-based version before the first start, so no rows are inserted in between.
+DO $$
+DECLARE
+    tbl text;
+    next_id bigint;
+BEGIN
+    FOREACH tbl IN ARRAY ARRAY['tribes', 'users', 'chores', 'chore_completions'] LOOP
+        IF to_regclass(tbl || '_seq') IS NULL THEN
+            next_id := 1;
+            IF to_regclass(tbl) IS NOT NULL THEN
+                EXECUTE format('LOCK TABLE %I IN EXCLUSIVE MODE', tbl);
+                EXECUTE format('SELECT COALESCE(MAX(id), 0) + 1 FROM %I', tbl) INTO next_id;
+                EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', tbl);
+            END IF;
+            EXECUTE format('CREATE SEQUENCE %I START WITH %s INCREMENT BY 50', tbl || '_seq', next_id);
+        END IF;
+    END LOOP;
+END
+$$;
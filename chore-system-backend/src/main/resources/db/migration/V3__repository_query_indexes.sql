@@ -0,0 +1,20 @@
+-- Indexes for the repository queries. Postgres does not index foreign keys on its own,
+-- so without these every lookup below was a sequential scan.
+-- The unique constraints already index users (username, email, google_id) and tribes (name, join_code).
+
+-- IChoreRepository: findByNameAndTribeId, and the tribe's chore list (tribe_id prefix)
+CREATE INDEX IF NOT EXISTS chores_tribe_id_name_idx ON chores (tribe_id, name);
+-- IChoreRepository: findActiveSummariesByTribeId; only active chores are indexed
+CREATE INDEX IF NOT EXISTS chores_tribe_id_active_idx ON chores (tribe_id) WHERE is_active;
+-- IChoreRepository: findSummariesByAssignedToId, findActiveSummariesByAssignedToId
+CREATE INDEX IF NOT EXISTS chores_assigned_user_id_idx ON chores (assigned_user_id);
+
+-- IUserRepository: findByTribeId (leaderboard load)
+CREATE INDEX IF NOT EXISTS users_tribe_id_idx ON users (tribe_id);
+
+-- IChoreCompletionRepository: completions of a user, optionally within a date range
+CREATE INDEX IF NOT EXISTS chore_completions_user_date_idx ON chore_completions (completed_by_user_id, completion_date);
+-- IChoreCompletionRepository: completions of a chore, and of a tribe's chores within a date range (sumPointsByUserSince)
+CREATE INDEX IF NOT EXISTS chore_completions_chore_date_idx ON chore_completions (chore_id, completion_date);
+-- IChoreCompletionRepository: exports of a date range across all tribes
+CREATE INDEX IF NOT EXISTS chore_completions_date_idx ON chore_completions (completion_date);
@@ -0,0 +1,14 @@
+-- Copies each completion's tribe onto chore_completions, so tribe/date-range reads
+-- (activity feeds, period leaderboards, exports) scan one index instead of joining chores.
+-- The column records the tribe the chore belonged to when it was completed.
+ALTER TABLE chore_completions ADD COLUMN tribe_id bigint;
+
+UPDATE chore_completions cc
+SET tribe_id = c.tribe_id
+FROM chores c
+WHERE c.id = cc.chore_id;
+
+ALTER TABLE chore_completions ALTER COLUMN tribe_id SET NOT NULL;
+ALTER TABLE chore_completions ADD CONSTRAINT chore_completions_tribe_id_fkey FOREIGN KEY (tribe_id) REFERENCES tribes (id);
+
+CREATE INDEX chore_completions_tribe_date_idx ON chore_completions (tribe_id, completion_date);
@@ -0,0 +1,63 @@
+-- Turns chore_completions into a table range-partitioned by completion_date, one partition per month.
+-- Queries that filter on completion_date only read the partitions of the months they cover, and
+-- vacuum and index maintenance only touch the partitions that still change (the recent ones).
+-- New partitions are created ahead of time by CompletionPartitionService; a default partition
+-- catches completions dated outside every existing partition (e.g. very old backdated completions).
+
+-- Creates the partition for the month containing the given date, unless it already exists.
+-- Returns the partition's name (chore_completions_YYYY_MM).
+CREATE FUNCTION create_chore_completions_partition(month_date date) RETURNS text AS $$
+DECLARE
+    month_start date := date_trunc('month', month_date)::date;
+    partition_name text := 'chore_completions_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF chore_completions FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, month_start, (month_start + interval '1 month')::date);
+    END IF;
+    RETURN partition_name;
+END
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE chore_completions RENAME TO chore_completions_unpartitioned;
+
+CREATE TABLE chore_completions (
+    id bigint NOT NULL,
+    completion_date timestamp(6) NOT NULL,
+    points_awarded integer NOT NULL,
+    chore_id bigint NOT NULL,
+    completed_by_user_id bigint NOT NULL,
+    tribe_id bigint NOT NULL
+) PARTITION BY RANGE (completion_date);
+
+CREATE TABLE chore_completions_default PARTITION OF chore_completions DEFAULT;
+
+-- One partition per month from the oldest completion up to three months ahead
+DO $$
+DECLARE
+    month_date date := date_trunc('month', COALESCE((SELECT MIN(completion_date) FROM chore_completions_unpartitioned), now()));
+BEGIN
+    WHILE month_date <= date_trunc('month', now()) + interval '3 months' LOOP
+        PERFORM create_chore_completions_partition(month_date);
+        month_date := month_date + interval '1 month';
+    END LOOP;
+END
+$$;
+
+INSERT INTO chore_completions (id, completion_date, points_awarded, chore_id, completed_by_user_id, tribe_id)
+SELECT id, completion_date, points_awarded, chore_id, completed_by_user_id, tribe_id
+FROM chore_completions_unpartitioned;
+
+DROP TABLE chore_completions_unpartitioned;
+
+-- The primary key of a partitioned table must include the partition key; ids stay unique through chore_completions_seq
+ALTER TABLE chore_completions ADD CONSTRAINT chore_completions_pkey PRIMARY KEY (id, completion_date);
+ALTER TABLE chore_completions ADD CONSTRAINT chore_completions_chore_id_fkey FOREIGN KEY (chore_id) REFERENCES chores (id);
+ALTER TABLE chore_completions ADD CONSTRAINT chore_completions_completed_by_user_id_fkey FOREIGN KEY (completed_by_user_id) REFERENCES users (id);
+ALTER TABLE chore_completions ADD CONSTRAINT chore_completions_tribe_id_fkey FOREIGN KEY (tribe_id) REFERENCES tribes (id);
+
+-- Indexes on the partitioned table are created on every partition, including future ones
+CREATE INDEX chore_completions_user_date_idx ON chore_completions (completed_by_user_id, completion_date);
+CREATE INDEX chore_completions_chore_date_idx ON chore_completions (chore_id, completion_date);
+CREATE INDEX chore_completions_date_idx ON chore_completions (completion_date);
+CREATE INDEX chore_completions_tribe_date_idx ON chore_completions (tribe_id, completion_date);
@@ -0,0 +1,4 @@
+-- Recurring chores are advanced to their next cycle by a scheduled task (RecurringChoreService),
+-- which scans the active recurring chores in ID order. Only the current instance of each recurring
+-- chore is active, so this index stays small however many past instances accumulate.
+CREATE INDEX IF NOT EXISTS chores_active_recurring_idx ON chores (id) WHERE is_active AND is_recurring;
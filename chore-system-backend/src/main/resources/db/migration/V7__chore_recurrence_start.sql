@@ -0,0 +1,6 @@
+-- Start of the series of a recurring chore (the RRULE's DTSTART), copied to each new instance.
+-- Recurrence patterns may now be RRULEs whose INTERVAL and COUNT are counted from it.
+ALTER TABLE chores ADD COLUMN IF NOT EXISTS recurrence_start date;
+
+-- Existing series only use DAILY/WEEKLY/MONTHLY/YEARLY, so starting them at their current due date keeps their schedule
+UPDATE chores SET recurrence_start = due_date WHERE is_recurring AND recurrence_start IS NULL;
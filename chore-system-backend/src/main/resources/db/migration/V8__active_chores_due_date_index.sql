@@ -0,0 +1,2 @@
+-- Due-date reminders are loaded one due date at a time (ChoreReminderService), in chore ID order
+CREATE INDEX IF NOT EXISTS chores_active_due_date_idx ON chores (due_date, id) WHERE is_active;
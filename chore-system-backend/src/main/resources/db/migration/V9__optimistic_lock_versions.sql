@@ -0,0 +1,4 @@
+-- Version columns for optimistic locking of chores and users (@Version on Chore and User).
+-- Existing rows start at version 0.
+ALTER TABLE chores ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
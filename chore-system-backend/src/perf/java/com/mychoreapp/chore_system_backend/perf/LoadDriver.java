@@ -0,0 +1,135 @@
+package com.mychoreapp.chore_system_backend.perf;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Multi-threaded HTTP load driver. Each client thread sends requests back to back (a closed loop), picking the
+ * operation of every request at random in proportion to the operations' weights, and records each request's latency
+ * in the operation's HdrHistogram. Requests started during the warm-up are sent but not recorded.
+ * Being a closed loop, the driver slows down with the server, so latencies under overload are understated
+ * (coordinated omission); compare runs at the same client count.
+ */
+final class LoadDriver {
+
+	/**
+	 * One kind of request.
+	 * @param name The name the operation is reported under.
+	 * @param weight The share of requests that are of this kind, relative to the other operations' weights.
+	 * @param request Builds the next request, e.g. for a random tribe.
+	 */
+	record Operation(String name, int weight, Supplier<HttpRequest> request) {
+	}
+
+	/**
+	 * The measurements of one operation.
+	 * @param name The name of the operation.
+	 * @param latencies The latencies of the recorded requests, in microseconds.
+	 * @param errors The number of recorded requests that failed or did not return a 2xx status.
+	 * @param seconds The length of the measurement.
+	 */
+	record Result(String name, Histogram latencies, long errors, int seconds) {
+
+		double throughput() {
+			return (double) latencies.getTotalCount() / seconds;
+		}
+	}
+
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	private final List<Operation> operations;
+	private final int totalWeight;
+
+	/**
+	 * Creates a driver.
+	 * @param operations The operations to send.
+	 */
+	LoadDriver(final List<Operation> operations) {
+		this.operations = operations;
+		this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+	}
+
+	/**
+	 * Runs the load.
+	 * @param clients The number of client threads.
+	 * @param warmupSeconds How long requests are sent before they are recorded.
+	 * @param seconds How long requests are recorded.
+	 * @return The measurements, per operation, in the order of the operations.
+	 */
+	List<Result> run(final int clients, final int warmupSeconds, final int seconds) throws Exception {
+		final Recorder[] recorders = new Recorder[operations.size()];
+		final LongAdder[] errors = new LongAdder[operations.size()];
+		for (int i = 0; i < recorders.length; i++) {
+			recorders[i] = new Recorder(3);
+			errors[i] = new LongAdder();
+		}
+		final long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+		final long deadline = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+
+		final ExecutorService pool = Executors.newFixedThreadPool(clients);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for (int c = 0; c < clients; c++) {
+				futures.add(pool.submit(() -> {
+					long start;
+					while ((start = System.nanoTime()) < deadline) {
+						final int operation = pick();
+						boolean failed;
+						try {
+							final HttpResponse<Void> response = client.send(operations.get(operation).request().get(),
+									HttpResponse.BodyHandlers.discarding());
+							failed = response.statusCode() / 100 != 2;
+						} catch (final IOException e) {
+							failed = true;
+						}
+						if (start >= measureFrom) {
+							recorders[operation].recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+							if (failed) {
+								errors[operation].increment();
+							}
+						}
+					}
+					return null;
+				}));
+			}
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		final List<Result> results = new ArrayList<>();
+		for (int i = 0; i < recorders.length; i++) {
+			results.add(new Result(operations.get(i).name(), recorders[i].getIntervalHistogram(), errors[i].sum(), seconds));
+		}
+		return results;
+	}
+
+	/**
+	 * Helper method to pick the index of an operation at random, in proportion to the weights.
+	 */
+	private int pick() {
+		int remaining = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (int i = 0; i < operations.size(); i++) {
+			remaining -= operations.get(i).weight();
+			if (remaining < 0) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Weights changed");
+	}
+}
@@ -0,0 +1,181 @@
+package com.mychoreapp.chore_system_backend.perf;
+
+import com.mychoreapp.chore_system_backend.ChoreSystemBackendApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * End-to-end load test: prepares a database with a large synthetic data set, starts the application against it and
+ * drives the REST endpoints, then reports throughput and latency percentiles per endpoint and writes each endpoint's
+ * HdrHistogram percentile distribution (.hgrm) to the output directory.
+ * Run with {@code mvn -Pperf verify}; the settings are system properties, see the perf profile in pom.xml.
+ * perf.threading selects whether requests run on platform threads, on virtual threads (spring.threads.virtual.enabled),
+ * or, with "both", once on each against the same data set, with the results of each mode in its own subdirectory.
+ * Without perf.jdbc-url a throwaway embedded PostgreSQL is started, so the data set is generated on every run.
+ * With it, the database must be dedicated to the suite, since it is migrated, filled and, with perf.regenerate,
+ * truncated; the data set is kept between runs, so it is only generated once.
+ */
+public final class PerfSuite {
+
+	/**
+	 * The ID ranges of one generated tribe (see SyntheticDataGenerator).
+	 */
+	private record TribeLayout(long tribeId, long firstUser, int userCount, long firstChore, int choreCount) {
+	}
+
+	private PerfSuite() {
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final String jdbcUrl = System.getProperty("perf.jdbc-url", "");
+		final String username = System.getProperty("perf.jdbc-username", "postgres");
+		final String password = System.getProperty("perf.jdbc-password", "");
+		final int tribes = Integer.getInteger("perf.tribes", 10_000);
+		final long completions = Long.getLong("perf.completions", 10_000_000L);
+		final boolean regenerate = Boolean.getBoolean("perf.regenerate");
+		final int clients = Integer.getInteger("perf.clients", 64);
+		final int warmupSeconds = Integer.getInteger("perf.warmup-seconds", 15);
+		final int seconds = Integer.getInteger("perf.seconds", 60);
+		final Path outputDir = Path.of(System.getProperty("perf.output-dir", "target/perf"));
+		final List<String> threadingModes = threadingModes(System.getProperty("perf.threading", "platform"));
+
+		EmbeddedPostgres embedded = null;
+		String url = jdbcUrl;
+		if (url.isBlank()) {
+			log("Starting an embedded PostgreSQL");
+			embedded = EmbeddedPostgres.builder().start();
+			url = embedded.getJdbcUrl(username, "postgres");
+		}
+		try {
+			Flyway.configure().dataSource(url, username, password).baselineOnMigrate(true).baselineVersion("0").load().migrate();
+			final List<TribeLayout> layout;
+			final SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, username, password, true);
+			try {
+				final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+				new SyntheticDataGenerator(jdbcTemplate).generateIfMissing(tribes, completions, regenerate);
+				layout = jdbcTemplate.query("SELECT tribe_id, first_user, user_count, first_chore, chore_count FROM "
+						+ SyntheticDataGenerator.LAYOUT_TABLE + " ORDER BY idx", (rs, row) -> new TribeLayout(
+						rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getLong(4), rs.getInt(5)));
+			} finally {
+				dataSource.destroy();
+			}
+
+			final List<String> appArgs = new ArrayList<>(List.of("--spring.datasource.url=" + url,
+					"--spring.datasource.username=" + username, "--server.port=0", "--spring.jpa.show-sql=false",
+					"--recurring-chores.materialize-cron=-")); // The generated completions would all make their recurring chores advance at once
+			if (!password.isEmpty()) {
+				appArgs.add("--spring.datasource.password=" + password);
+			}
+			for (final String mode : threadingModes) {
+				final List<String> modeArgs = new ArrayList<>(appArgs);
+				modeArgs.add("--spring.threads.virtual.enabled=" + mode.equals("virtual"));
+				try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ChoreSystemBackendApplication.class)
+						.run(modeArgs.toArray(String[]::new))) {
+					final String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+					log(String.format("Driving %s on %s threads with %d clients: %d s warm-up, %d s measured",
+							baseUrl, mode, clients, warmupSeconds, seconds));
+					final List<LoadDriver.Result> results = new LoadDriver(operations(baseUrl, layout)).run(clients, warmupSeconds, seconds);
+					report(results, threadingModes.size() == 1 ? outputDir : outputDir.resolve(mode));
+				}
+			}
+		} finally {
+			if (embedded != null) {
+				embedded.close();
+			}
+		}
+	}
+
+	/**
+	 * Parses perf.threading into the threading modes to run, in order.
+	 */
+	private static List<String> threadingModes(final String threading) {
+		return switch (threading) {
+			case "platform", "virtual" -> List.of(threading);
+			case "both" -> List.of("platform", "virtual");
+			default -> throw new IllegalArgumentException("perf.threading must be platform, virtual or both, not " + threading);
+		};
+	}
+
+	/**
+	 * The mix of requests: mostly reads of a tribe's chores and leaderboard, and one completion for every six or so requests.
+	 * Tribes are picked with the same skew as the completions were generated with, so the busy tribes get most requests.
+	 */
+	private static List<LoadDriver.Operation> operations(final String baseUrl, final List<TribeLayout> layout) {
+		final Supplier<TribeLayout> tribe = () ->
+				layout.get((int) (layout.size() * Math.pow(ThreadLocalRandom.current().nextDouble(), 1.5)));
+		return List.of(
+				new LoadDriver.Operation("GET /api/chores/tribe/{id}/active", 25, () ->
+						get(baseUrl + "/api/chores/tribe/" + tribe.get().tribeId() + "/active")),
+				new LoadDriver.Operation("GET /api/chores/tribe/{id}", 10, () ->
+						get(baseUrl + "/api/chores/tribe/" + tribe.get().tribeId())),
+				new LoadDriver.Operation("POST /api/chore-completions/{choreId}/complete-by/{userId}", 15, () -> {
+					final TribeLayout t = tribe.get();
+					final long choreId = t.firstChore() + ThreadLocalRandom.current().nextInt(t.choreCount());
+					final long userId = t.firstUser() + ThreadLocalRandom.current().nextInt(t.userCount());
+					return HttpRequest.newBuilder(URI.create(baseUrl + "/api/chore-completions/" + choreId + "/complete-by/" + userId))
+							.POST(HttpRequest.BodyPublishers.noBody()).build();
+				}),
+				new LoadDriver.Operation("GET /api/chore-completions/tribe/{id}/range (7 days)", 10, () -> {
+					final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+					return get(baseUrl + "/api/chore-completions/tribe/" + tribe.get().tribeId() + "/range?startDate="
+							+ now.minusDays(7) + "&endDate=" + now);
+				}),
+				new LoadDriver.Operation("GET /api/leaderboard/tribe/{id}", 25, () ->
+						get(baseUrl + "/api/leaderboard/tribe/" + tribe.get().tribeId())),
+				new LoadDriver.Operation("GET /api/users/{id}", 15, () -> {
+					final TribeLayout t = tribe.get();
+					return get(baseUrl + "/api/users/" + (t.firstUser() + ThreadLocalRandom.current().nextInt(t.userCount())));
+				}));
+	}
+
+	private static HttpRequest get(final String url) {
+		return HttpRequest.newBuilder(URI.create(url)).GET().build();
+	}
+
+	/**
+	 * Prints throughput and latency percentiles per endpoint, and writes each endpoint's latency distribution
+	 * (in milliseconds) to an .hgrm file, which HdrHistogram's plotter reads.
+	 */
+	private static void report(final List<LoadDriver.Result> results, final Path outputDir) throws Exception {
+		Files.createDirectories(outputDir);
+		final StringBuilder table = new StringBuilder(String.format("%n%-62s %9s %8s %8s %8s %8s %8s %7s%n",
+				"Endpoint", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors"));
+		for (int i = 0; i < results.size(); i++) {
+			final LoadDriver.Result result = results.get(i);
+			table.append(String.format("%-62s %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f %7d%n", result.name(), result.throughput(),
+					millis(result, 50), millis(result, 90), millis(result, 99), millis(result, 99.9),
+					result.latencies().getMaxValue() / 1000.0, result.errors()));
+			try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(String.format("%02d-%s.hgrm", i + 1,
+					result.name().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "")))))) {
+				result.latencies().outputPercentileDistribution(out, 1000.0);
+			}
+		}
+		Files.writeString(outputDir.resolve("summary.txt"), table);
+		System.out.println(table);
+		log("Latency distributions written to " + outputDir.toAbsolutePath());
+	}
+
+	private static double millis(final LoadDriver.Result result, final double percentile) {
+		return result.latencies().getValueAtPercentile(percentile) / 1000.0;
+	}
+
+	private static void log(final String message) {
+		System.out.println("[perf] " + message);
+	}
+}
@@ -0,0 +1,139 @@
+package com.mychoreapp.chore_system_backend.perf;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills an empty database with tribes, users, chores and completions, in set-based SQL so that millions of rows
+ * take minutes rather than hours. The data is skewed the way real usage is:
+ * most tribes are small and a few are large, a few tribes produce most of the completions,
+ * a few members of each tribe do most of its chores, and completions thin out further into the past (up to a year).
+ * The layout of the generated IDs is kept in the perf_layout table, so the load driver can pick consistent targets
+ * (a chore and a member of the same tribe) and later runs can reuse the data.
+ */
+final class SyntheticDataGenerator {
+
+	static final String LAYOUT_TABLE = "perf_layout";
+
+	/**
+	 * Per-tribe layout: the tribe's index in the skew order (0 is the most active), and its contiguous user and chore ID ranges.
+	 * Most tribes have a handful of members and chores; the cubed and squared uniforms give the long tail.
+	 * A format string, for the number of tribes.
+	 */
+	private static final String CREATE_LAYOUT = """
+			CREATE UNLOGGED TABLE perf_layout AS
+			SELECT idx, idx + 1 AS tribe_id, user_count, chore_count,
+				   SUM(user_count) OVER (ORDER BY idx) - user_count + 1 AS first_user,
+				   SUM(chore_count) OVER (ORDER BY idx) - chore_count + 1 AS first_chore
+			FROM (SELECT t AS idx,
+						 1 + floor(19 * power(random(), 3))::int AS user_count,
+						 2 + floor(38 * power(random(), 2))::int AS chore_count
+				  FROM generate_series(0, %d - 1) t) sizes
+			""";
+
+	private static final String INSERT_TRIBES = """
+			INSERT INTO tribes (id, name, join_code)
+			SELECT tribe_id, 'perf-tribe-' || tribe_id, 'P' || lpad(to_hex(tribe_id), 7, '0') FROM perf_layout
+			""";
+
+	private static final String INSERT_USERS = """
+			INSERT INTO users (id, username, password, authentication_type, points, tribe_id, version)
+			SELECT l.first_user + u, 'perf-user-' || (l.first_user + u), 'password', 'BASIC', 0, l.tribe_id, 0
+			FROM perf_layout l, generate_series(0, l.user_count - 1) u
+			""";
+
+	/**
+	 * Two in five chores recur; nine in ten are active; seven in ten are assigned. Due dates fall in the next two weeks.
+	 */
+	private static final String INSERT_CHORES = """
+			INSERT INTO chores (id, name, description, points_value, due_date, is_recurring, recurrence_pattern,
+								recurrence_start, is_active, tribe_id, assigned_user_id, version)
+			SELECT id, 'perf-chore-' || c, NULL, (ARRAY[1, 2, 3, 5, 8])[1 + floor(random() * 5)::int], due_date,
+				   c % 5 < 2, CASE WHEN c % 5 < 2 THEN (ARRAY['DAILY', 'WEEKLY', 'MONTHLY'])[1 + c % 3] END,
+				   CASE WHEN c % 5 < 2 THEN due_date END, c % 10 <> 9, tribe_id,
+				   CASE WHEN random() < 0.7 THEN first_user + floor(random() * user_count)::int END, 0
+			FROM (SELECT l.first_chore + c AS id, c, l.tribe_id, l.first_user, l.user_count,
+						 current_date + floor(random() * 14)::int AS due_date
+				  FROM perf_layout l, generate_series(0, l.chore_count - 1) c) chore
+			""";
+
+	/**
+	 * The tribe of each completion is drawn with power(random(), 1.5), so low indexes (hot tribes) get most of them;
+	 * within the tribe the chore is uniform and the member skewed. Points are those of the chore.
+	 */
+	private static final String INSERT_COMPLETIONS = """
+			INSERT INTO chore_completions (id, chore_id, completed_by_user_id, completion_date, points_awarded, tribe_id)
+			SELECT s.id, s.chore_id, s.user_id, s.completion_date, c.points_value, s.tribe_id
+			FROM (SELECT g.id, l.tribe_id,
+						 l.first_chore + floor(random() * l.chore_count)::bigint AS chore_id,
+						 l.first_user + floor(power(random(), 2) * l.user_count)::bigint AS user_id,
+						 localtimestamp - power(random(), 2) * interval '365 days' AS completion_date
+				  FROM (SELECT g AS id, floor(? * power(random(), 1.5))::int AS idx FROM generate_series(1, ?) g) g
+				  JOIN perf_layout l ON l.idx = g.idx) s
+			JOIN chores c ON c.id = s.chore_id
+			""";
+
+	private static final String UPDATE_POINTS = """
+			UPDATE users u SET points = totals.points
+			FROM (SELECT completed_by_user_id, SUM(points_awarded) AS points FROM chore_completions GROUP BY completed_by_user_id) totals
+			WHERE u.id = totals.completed_by_user_id
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Creates a generator.
+	 * @param jdbcTemplate The template for the database to fill, whose schema has been migrated. It should use a single
+	 * connection, so the random seed set by the generator applies to all of its statements.
+	 */
+	SyntheticDataGenerator(final JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Generates the data set, unless a previous run already did.
+	 * @param tribes The number of tribes.
+	 * @param completions The number of completions.
+	 * @param regenerate Whether to delete all data and generate it again.
+	 * @throws IllegalStateException if the database holds data that the generator did not create.
+	 */
+	void generateIfMissing(final int tribes, final long completions, final boolean regenerate) {
+		final boolean generated = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, LAYOUT_TABLE);
+		if (regenerate) {
+			jdbcTemplate.execute("DROP TABLE IF EXISTS " + LAYOUT_TABLE);
+			jdbcTemplate.execute("TRUNCATE chore_completions, chores, users, tribes CASCADE");
+		} else if (generated) {
+			log("Reusing the generated data set (-Dperf.regenerate=true generates a new one)");
+			return;
+		} else if (jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM tribes)", Boolean.class)) {
+			throw new IllegalStateException("The database already holds data; point -Dperf.jdbc-url at a dedicated, empty database");
+		}
+
+		final long start = System.nanoTime();
+		jdbcTemplate.execute("SELECT setseed(0.42)"); // The same sizes give the same data set
+		jdbcTemplate.execute(String.format(CREATE_LAYOUT, tribes)); // CREATE TABLE AS takes no bind parameters
+		jdbcTemplate.update(INSERT_TRIBES);
+		jdbcTemplate.update(INSERT_USERS);
+		jdbcTemplate.update(INSERT_CHORES);
+		// Monthly partitions for the year of history, so completions do not pile up in the default partition
+		jdbcTemplate.queryForList("SELECT create_chore_completions_partition((current_date - make_interval(months => m))::date) "
+				+ "FROM generate_series(0, 12) m");
+		jdbcTemplate.update(INSERT_COMPLETIONS, tribes, completions);
+		jdbcTemplate.update(UPDATE_POINTS);
+		// Hibernate allocates IDs in blocks starting at the sequence value (pooled-lo), so continue after the generated rows
+		for (final String table : new String[] {"tribes", "users", "chores", "chore_completions"}) {
+			jdbcTemplate.queryForObject("SELECT setval(?, (SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "), false)",
+					Long.class, table + "_seq");
+		}
+		jdbcTemplate.execute("ANALYZE");
+		log(String.format("Generated %d tribes, %d users, %d chores and %d completions in %d s", tribes,
+				jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class),
+				jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chores", Long.class),
+				completions, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)));
+	}
+
+	private static void log(final String message) {
+		System.out.println("[perf] " + message);
+	}
+}
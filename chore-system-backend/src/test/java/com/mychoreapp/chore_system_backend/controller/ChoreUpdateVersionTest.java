@@ -0,0 +1,112 @@
+package com.mychoreapp.chore_system_backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
+import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Updates of PUT /api/chores/{id}, which must be based on the chore's current version.
+ * Each request commits, so the version is incremented; the fixture is removed after each test.
+ */
+@SpringBootTest(properties = {"recurring-chores.materialize-cron=-", "outbox.relay-cron=-"})
+@AutoConfigureMockMvc
+class ChoreUpdateVersionTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ITribeRepository tribeRepository;
+
+	@Autowired
+	private IChoreRepository choreRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Tribe tribe;
+	private Chore chore;
+
+	@BeforeEach
+	void createFixture() {
+		tribe = tribeRepository.save(new Tribe("tribe-" + UUID.randomUUID().toString().substring(0, 8)));
+		chore = choreRepository.save(new Chore("chore", null, 5, tribe));
+	}
+
+	@AfterEach
+	void removeFixture() {
+		jdbcTemplate.update("DELETE FROM outbox_events WHERE tribe_id = ?", tribe.getId()); // In case updates come to publish events
+		choreRepository.deleteById(chore.getId());
+		tribeRepository.deleteById(tribe.getId());
+	}
+
+	@Test
+	void updateBasedOnTheCurrentVersionIsApplied() throws Exception {
+		final MvcResult read = mockMvc.perform(get(path())).andExpect(header().string(HttpHeaders.ETAG, "\"0\"")).andReturn();
+		final ObjectNode body = (ObjectNode) objectMapper.readTree(read.getResponse().getContentAsString());
+		body.put("name", "renamed");
+
+		mockMvc.perform(put(path()).contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+		assertEquals("renamed", choreRepository.findById(chore.getId()).orElseThrow().getName());
+	}
+
+	@Test
+	void updateBasedOnAnOutdatedVersionIsRejected() throws Exception {
+		final ObjectNode body = currentBody();
+		body.put("name", "first");
+		mockMvc.perform(put(path()).contentType(MediaType.APPLICATION_JSON).content(body.toString())).andExpect(status().isOk());
+
+		body.put("name", "second"); // Still based on version 0
+		mockMvc.perform(put(path()).contentType(MediaType.APPLICATION_JSON).content(body.toString())).andExpect(status().isPreconditionFailed());
+		mockMvc.perform(put(path()).contentType(MediaType.APPLICATION_JSON).content(body.toString()).header(HttpHeaders.IF_MATCH, "\"0\""))
+				.andExpect(status().isPreconditionFailed());
+		assertEquals("first", choreRepository.findById(chore.getId()).orElseThrow().getName());
+	}
+
+	@Test
+	void updateWithoutVersionIsRejected() throws Exception {
+		final ObjectNode body = currentBody();
+		body.remove("version");
+		mockMvc.perform(put(path()).contentType(MediaType.APPLICATION_JSON).content(body.toString())).andExpect(status().isPreconditionRequired());
+		mockMvc.perform(put(path()).contentType(MediaType.APPLICATION_JSON).content(body.toString()).header(HttpHeaders.IF_MATCH, "3"))
+				.andExpect(status().isBadRequest()); // Not a quoted ETag
+		mockMvc.perform(put(path()).contentType(MediaType.APPLICATION_JSON).content(body.toString()).header(HttpHeaders.IF_MATCH, "\"0\""))
+				.andExpect(status().isOk());
+	}
+
+	private ObjectNode currentBody() throws Exception {
+		final MvcResult read = mockMvc.perform(get(path())).andReturn();
+		return (ObjectNode) objectMapper.readTree(read.getResponse().getContentAsString());
+	}
+
+	private String path() {
+		return "/api/chores/" + chore.getId();
+	}
+}
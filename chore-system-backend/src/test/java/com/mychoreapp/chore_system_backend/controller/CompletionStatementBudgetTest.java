@@ -0,0 +1,95 @@
+package com.mychoreapp.chore_system_backend.controller;
+
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.model.User;
+import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
+import com.mychoreapp.chore_system_backend.repository.IIdempotencyKeyRepository;
+import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
+import com.mychoreapp.chore_system_backend.repository.IUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts the SQL statements of recording a completion, the endpoint with the largest write path, against its @QueryBudget.
+ * The request commits, as in production, so the statements issued at commit are counted too;
+ * the fixture and everything the request writes are removed after the test.
+ */
+// Endpoints over their @QueryBudget fail, and the statements of each request are returned as X-Query-* headers.
+@SpringBootTest(properties = {"query-budget.fail-on-exceeded=true", "query-statistics.response-headers=true",
+		"recurring-chores.materialize-cron=-", "outbox.relay-cron=-"})
+@AutoConfigureMockMvc
+class CompletionStatementBudgetTest {
+
+	private static final int STATEMENTS_WITHOUT_ID_BLOCKS = 8; // The budget also allows an ID block for the completion and one for the outbox event
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ITribeRepository tribeRepository;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private IChoreRepository choreRepository;
+
+	@Autowired
+	private IIdempotencyKeyRepository idempotencyKeyRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final String idempotencyKey = UUID.randomUUID().toString();
+	private Tribe tribe;
+	private User user;
+	private Chore chore;
+
+	@BeforeEach
+	void createFixture() {
+		final String suffix = idempotencyKey.substring(0, 8);
+		tribe = tribeRepository.save(new Tribe("budget-" + suffix));
+		user = new User("budget-" + suffix, "password");
+		user.setTribe(tribe);
+		user = userRepository.save(user);
+		chore = new Chore("chore", null, 5, true, "DAILY", tribe);
+		chore.setDueDate(LocalDate.now());
+		chore.setRecurrenceStart(LocalDate.now());
+		chore = choreRepository.save(chore);
+	}
+
+	@AfterEach
+	void removeFixture() {
+		idempotencyKeyRepository.deleteById(idempotencyKey);
+		jdbcTemplate.update("DELETE FROM outbox_events WHERE tribe_id = ?", tribe.getId());
+		jdbcTemplate.update("DELETE FROM chore_completions WHERE tribe_id = ?", tribe.getId());
+		choreRepository.deleteById(chore.getId());
+		userRepository.deleteById(user.getId());
+		tribeRepository.deleteById(tribe.getId());
+	}
+
+	@Test
+	void recordingACompletionStaysWithinItsBudget() throws Exception {
+		// The key lookup, and the recurring chore's deactivation, are part of the worst case
+		final String statements = mockMvc.perform(post("/api/chore-completions/" + chore.getId() + "/complete-by/" + user.getId())
+						.header(ChoreCompletionController.IDEMPOTENCY_KEY_HEADER, idempotencyKey))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getHeader("X-Query-Statements");
+		final int count = Integer.parseInt(statements);
+		assertTrue(count >= STATEMENTS_WITHOUT_ID_BLOCKS, "SQL statements issued: " + count);
+	}
+}
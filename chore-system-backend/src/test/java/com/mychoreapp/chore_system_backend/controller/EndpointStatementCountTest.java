@@ -0,0 +1,135 @@
+package com.mychoreapp.chore_system_backend.controller;
+
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.ChoreCompletion;
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts how many SQL statements each read endpoint issues, using Hibernate statistics.
+ * The fixture has several users, chores and completions per tribe, so an N+1 regression
+ * (e.g. a lazy association initialized per row during serialization) changes the count and fails the build.
+ * Runs in a transaction that is rolled back after each test.
+ */
+// Statistics count the statements of every thread, so the per-minute recurring chore task and the outbox relay are switched off.
+// Endpoints over their @QueryBudget fail, too.
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true", "recurring-chores.materialize-cron=-",
+		"outbox.relay-cron=-", "query-budget.fail-on-exceeded=true"})
+@AutoConfigureMockMvc
+@Transactional
+class EndpointStatementCountTest {
+
+	private static final int ROWS = 4; // Users and chores in the fixture; completions are twice as many
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private Tribe tribe;
+	private final List<User> users = new ArrayList<>();
+	private final List<Chore> chores = new ArrayList<>();
+	private final List<ChoreCompletion> completions = new ArrayList<>();
+
+	@BeforeEach
+	void createFixture() {
+		final String suffix = UUID.randomUUID().toString().substring(0, 8);
+		tribe = new Tribe("tribe-" + suffix);
+		entityManager.persist(tribe);
+		for (int i = 0; i < ROWS; i++) {
+			final User user = new User("user-" + suffix + "-" + i, "password");
+			user.setTribe(tribe);
+			entityManager.persist(user);
+			users.add(user);
+
+			final Chore chore = new Chore("chore-" + i, null, 5, tribe);
+			chore.setAssignedTo(user);
+			entityManager.persist(chore);
+			chores.add(chore);
+		}
+		for (int i = 0; i < 2 * ROWS; i++) {
+			final ChoreCompletion completion = new ChoreCompletion(chores.get(i % ROWS), users.get(0), 5, LocalDateTime.now().minusHours(i));
+			entityManager.persist(completion);
+			completions.add(completion);
+		}
+		// Start every request from an empty persistence context and empty lookup caches, as in production
+		entityManager.flush();
+		entityManager.clear();
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	@Test
+	void choreEndpoints() throws Exception {
+		assertStatements(1, "/api/chores/" + chores.get(0).getId());
+		assertStatements(1, "/api/chores/tribe/" + tribe.getId());
+		assertStatements(1, "/api/chores/tribe/" + tribe.getId() + "/active");
+		assertStatements(1, "/api/chores/assigned-to/" + users.get(0).getId());
+		assertStatements(1, "/api/chores/assigned-to/" + users.get(0).getId() + "/active");
+		assertStatements(1, "/api/chores/all?size=" + ROWS);
+	}
+
+	@Test
+	void choreCompletionEndpoints() throws Exception {
+		final String range = "/range?startDate=2000-01-01T00:00:00&endDate=2100-01-01T00:00:00";
+		assertStatements(1, "/api/chore-completions/" + completions.get(0).getId());
+		assertStatements(1, "/api/chore-completions/user/" + users.get(0).getId());
+		assertStatements(1, "/api/chore-completions/chore/" + chores.get(0).getId());
+		assertStatements(1, "/api/chore-completions/tribe/" + tribe.getId() + range);
+		assertStatements(1, "/api/chore-completions/user/" + users.get(0).getId() + range);
+		assertStatements(1, "/api/chore-completions/all?size=" + ROWS);
+	}
+
+	@Test
+	void userAndTribeEndpoints() throws Exception {
+		assertStatements(1, "/api/users/" + users.get(0).getId());
+		assertStatements(0, "/api/users/" + users.get(0).getId()); // Served from the cache
+		assertStatements(1, "/api/users/by-username/" + users.get(1).getUsername());
+		assertStatements(1, "/api/users?size=" + ROWS);
+		assertStatements(1, "/api/tribes/" + tribe.getId());
+		assertStatements(1, "/api/tribes?size=" + ROWS);
+	}
+
+	@Test
+	void leaderboardEndpoints() throws Exception {
+		assertStatements(2, "/api/leaderboard/tribe/" + tribe.getId()); // Checks the tribe exists and loads the board
+		assertStatements(0, "/api/leaderboard/tribe/" + tribe.getId() + "/user/" + users.get(0).getId());
+		assertStatements(1, "/api/leaderboard/tribe/" + tribe.getId() + "?period=WEEKLY"); // Loads the weekly board; the tribe is cached
+		mockMvc.perform(get("/api/leaderboard/tribe/" + Long.MAX_VALUE)).andExpect(status().isNotFound()); // No board is created
+	}
+
+	private void assertStatements(final int expected, final String path) throws Exception {
+		final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		entityManager.clear();
+		statistics.clear();
+		mockMvc.perform(get(path)).andExpect(status().isOk());
+		assertEquals(expected, statistics.getPrepareStatementCount(), "SQL statements issued by GET " + path);
+	}
+}
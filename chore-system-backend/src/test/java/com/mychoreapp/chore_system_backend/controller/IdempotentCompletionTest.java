@@ -0,0 +1,100 @@
+package com.mychoreapp.chore_system_backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Retries of POST /api/chore-completions/{choreId}/complete-by/{userId} with an Idempotency-Key header.
+ * Runs in a transaction that is rolled back after each test.
+ */
+@SpringBootTest(properties = {"recurring-chores.materialize-cron=-", "outbox.relay-cron=-"})
+@AutoConfigureMockMvc
+@Transactional
+class IdempotentCompletionTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Chore chore;
+	private User user;
+	private User otherUser;
+
+	@BeforeEach
+	void createFixture() {
+		final String suffix = UUID.randomUUID().toString().substring(0, 8);
+		final Tribe tribe = new Tribe("tribe-" + suffix);
+		entityManager.persist(tribe);
+		user = new User("user-" + suffix, "password");
+		user.setTribe(tribe);
+		entityManager.persist(user);
+		otherUser = new User("other-" + suffix, "password");
+		otherUser.setTribe(tribe);
+		entityManager.persist(otherUser);
+		chore = new Chore("chore", null, 5, tribe);
+		entityManager.persist(chore);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void retryIsAnsweredWithTheOriginalCompletion() throws Exception {
+		final String key = UUID.randomUUID().toString();
+		final MvcResult original = complete(user, key);
+		final MvcResult retry = complete(user, key);
+
+		assertNull(original.getResponse().getHeader(ChoreCompletionController.IDEMPOTENT_REPLAYED_HEADER));
+		assertEquals("true", retry.getResponse().getHeader(ChoreCompletionController.IDEMPOTENT_REPLAYED_HEADER));
+		assertEquals(completionId(original), completionId(retry));
+		assertEquals(1L, entityManager.createQuery("SELECT COUNT(c) FROM ChoreCompletion c WHERE c.chore.id = :choreId", Long.class)
+				.setParameter("choreId", chore.getId()).getSingleResult());
+		assertEquals(5, entityManager.find(User.class, user.getId()).getPoints()); // Awarded once
+	}
+
+	@Test
+	void keyOfAnotherRequestIsRejected() throws Exception {
+		final String key = UUID.randomUUID().toString();
+		complete(user, key);
+		mockMvc.perform(post(path(otherUser)).header(ChoreCompletionController.IDEMPOTENCY_KEY_HEADER, key))
+				.andExpect(status().isBadRequest());
+	}
+
+	private MvcResult complete(final User completedBy, final String key) throws Exception {
+		final MvcResult result = mockMvc.perform(post(path(completedBy)).header(ChoreCompletionController.IDEMPOTENCY_KEY_HEADER, key))
+				.andExpect(status().isCreated())
+				.andReturn();
+		entityManager.clear(); // The next request starts from an empty persistence context, as in production
+		return result;
+	}
+
+	private String path(final User completedBy) {
+		return "/api/chore-completions/" + chore.getId() + "/complete-by/" + completedBy.getId();
+	}
+
+	private long completionId(final MvcResult result) throws Exception {
+		return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+	}
+}
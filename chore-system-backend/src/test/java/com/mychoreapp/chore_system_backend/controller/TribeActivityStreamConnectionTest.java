@@ -0,0 +1,74 @@
+package com.mychoreapp.chore_system_backend.controller;
+
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Opens more tribe activity streams than the JDBC pool has connections, each for a tribe that is not cached yet,
+ * and checks that an ordinary request still gets a connection: a stream must not hold one while it is open.
+ * The pool is made small, and requests wait for a connection only briefly, so a held connection fails the request.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.hikari.maximum-pool-size=4", "spring.datasource.hikari.connection-timeout=2000",
+		"recurring-chores.materialize-cron=-", "outbox.relay-cron=-"})
+class TribeActivityStreamConnectionTest {
+
+	private static final int STREAMS = 6; // More than the pool size
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ITribeRepository tribeRepository;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+	private final List<Tribe> tribes = new ArrayList<>();
+	private final List<Stream<String>> streams = new ArrayList<>();
+
+	@AfterEach
+	void closeStreamsAndRemoveTribes() {
+		streams.forEach(Stream::close);
+		tribeRepository.deleteAll(tribes);
+	}
+
+	@Test
+	void openStreamsDoNotHoldConnections() throws Exception {
+		final String suffix = UUID.randomUUID().toString().substring(0, 8);
+		for (int i = 0; i < STREAMS; i++) {
+			tribes.add(tribeRepository.save(new Tribe("stream-" + suffix + "-" + i)));
+		}
+		for (final Tribe tribe : tribes) {
+			final HttpResponse<Stream<String>> stream = client.send(
+					HttpRequest.newBuilder(uri("/api/leaderboard/tribe/" + tribe.getId() + "/stream")).build(),
+					HttpResponse.BodyHandlers.ofLines()); // Returns once the headers are sent, while the stream stays open
+			assertEquals(200, stream.statusCode());
+			streams.add(stream.body());
+		}
+
+		final HttpResponse<String> response = client.send(
+				HttpRequest.newBuilder(uri("/api/chores/all?size=1")).timeout(Duration.ofSeconds(10)).build(),
+				HttpResponse.BodyHandlers.ofString());
+		assertEquals(200, response.statusCode());
+	}
+
+	private URI uri(final String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+}
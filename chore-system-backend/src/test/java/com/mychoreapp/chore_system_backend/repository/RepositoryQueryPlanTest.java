@@ -0,0 +1,181 @@
+package com.mychoreapp.chore_system_backend.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that every repository query can be answered from an index.
+ * Each query is run once to capture the SQL Hibernate generates, then EXPLAINed with sequential scans disabled.
+ * If the plan still contains a sequential scan, or a full index scan that filters rows instead of
+ * seeking to them (a Filter but no Index Cond), no usable index exists for one of the query's predicates
+ * and the test fails; add one in a db/migration script.
+ * Full index scans without a filter are allowed: they are the planner's choice of join strategy, not a missing index.
+ * So are filtering index scans of partitions that fit in a single page (e.g. the chore_completions partition of an
+ * old, quiet month): every index of such a partition costs the same, and the planner picks one arbitrarily.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.mychoreapp.chore_system_backend.repository.RepositoryQueryPlanTest$SqlCapture")
+@Transactional
+class RepositoryQueryPlanTest {
+
+	/**
+	 * Records the SQL of every statement Hibernate prepares, per thread, so statements of scheduled tasks
+	 * that happen to run during a test (e.g. RecurringChoreService) are not mistaken for the query's.
+	 */
+	public static class SqlCapture implements StatementInspector {
+		private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+		@Override
+		public String inspect(final String sql) {
+			STATEMENTS.get().add(sql);
+			return sql;
+		}
+	}
+
+	private static final Long ID = 1L;
+	private static final Long AFTER_ID = 1_000_000_000L; // Cursor of a page deep into a table, so the keyset predicate is selective
+	private static final int PAGE_SIZE = 50;
+	private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+	private static final LocalDateTime END = LocalDateTime.of(2025, 2, 1, 0, 0);
+	private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+
+	@Autowired
+	private IChoreCompletionRepository choreCompletionRepository;
+
+	@Autowired
+	private IChoreRepository choreRepository;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private ITribeRepository tribeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@BeforeEach
+	void disableSequentialScans() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+	}
+
+	@Test
+	void choreCompletionQueriesUseIndexes() {
+		assertIndexed(() -> choreCompletionRepository.findById(ID), ID);
+		assertIndexed(() -> choreCompletionRepository.findSummariesByCompletedBy_Id(ID), ID);
+		assertIndexed(() -> choreCompletionRepository.findSummariesByChore_Id(ID), ID);
+		assertIndexed(() -> choreCompletionRepository.findSummariesByTribeIdAndCompletionDateBetween(ID, START, END), ID, START, END);
+		assertIndexed(() -> choreCompletionRepository.findSummariesByCompletedBy_IdAndCompletionDateBetween(ID, START, END), ID, START, END);
+		assertIndexed(() -> choreCompletionRepository.findSummariesByIdGreaterThan(AFTER_ID, PageRequest.of(0, PAGE_SIZE)), AFTER_ID, PAGE_SIZE + 1);
+		assertIndexed(() -> choreCompletionRepository.findPointsByTribeIdSince(ID, START), ID, ID, START);
+		assertIndexed(() -> choreCompletionRepository.streamByTribeAndCompletionDateBetween(ID, START, END).close(), ID, START, END);
+		assertIndexed(() -> choreCompletionRepository.streamByCompletionDateBetween(START, END).close(), START, END);
+	}
+
+	@Test
+	void choreQueriesUseIndexes() {
+		assertIndexed(() -> choreRepository.findById(ID), ID);
+		assertIndexed(() -> choreRepository.findAllById(List.of(ID)), ID);
+		assertIndexed(() -> choreRepository.findSummariesByTribeId(ID), ID);
+		assertIndexed(() -> choreRepository.findActiveSummariesByTribeId(ID), ID);
+		assertIndexed(() -> choreRepository.findSummariesByAssignedToId(ID), ID);
+		assertIndexed(() -> choreRepository.findActiveSummariesByAssignedToId(ID), ID);
+		assertIndexed(() -> choreRepository.findByNameAndTribeId("no-such-chore", ID), "no-such-chore", ID);
+		assertIndexed(() -> choreRepository.findSummariesByIdGreaterThan(AFTER_ID, PageRequest.of(0, PAGE_SIZE)), AFTER_ID, PAGE_SIZE + 1);
+		assertIndexed(() -> choreRepository.findRemindersByDueDate(TODAY, AFTER_ID, PageRequest.of(0, PAGE_SIZE)), TODAY, AFTER_ID, PAGE_SIZE + 1);
+		assertIndexed(() -> choreRepository.findRecurringChoresToAdvance(AFTER_ID, TODAY, PageRequest.of(0, PAGE_SIZE)), AFTER_ID, TODAY, PAGE_SIZE);
+	}
+
+	@Test
+	void userQueriesUseIndexes() {
+		assertIndexed(() -> userRepository.findById(ID), ID);
+		assertIndexed(() -> userRepository.findCurrentById(ID), ID);
+		assertIndexed(() -> userRepository.findAllById(List.of(ID)), ID);
+		assertIndexed(() -> userRepository.findByUsername("alice"), "alice");
+		assertIndexed(() -> userRepository.findByGoogleId("google-id"), "google-id");
+		assertIndexed(() -> userRepository.findByEmail("alice@example.com"), "alice@example.com");
+		assertIndexed(() -> userRepository.findByTribeId(ID), ID);
+		assertIndexed(() -> userRepository.findByIdGreaterThanOrderByIdAsc(AFTER_ID, PageRequest.of(0, PAGE_SIZE)), AFTER_ID, PAGE_SIZE + 1);
+	}
+
+	@Test
+	void tribeQueriesUseIndexes() {
+		assertIndexed(() -> tribeRepository.findById(ID), ID);
+		assertIndexed(() -> tribeRepository.findByName("tribe"), "tribe");
+		assertIndexed(() -> tribeRepository.findByJoinCode("ABCD1234"), "ABCD1234");
+		assertIndexed(() -> tribeRepository.findByIdGreaterThanOrderByIdAsc(AFTER_ID, PageRequest.of(0, PAGE_SIZE)), AFTER_ID, PAGE_SIZE + 1);
+	}
+
+	/**
+	 * Runs a repository query, then EXPLAINs the single statement it issued and asserts that the plan reads every table through an index.
+	 * @param query The repository call.
+	 * @param parameters The values bound to the statement's placeholders, in order.
+	 */
+	private void assertIndexed(final Runnable query, final Object... parameters) {
+		entityManager.clear();
+		final List<String> statements = SqlCapture.STATEMENTS.get();
+		statements.clear();
+		query.run();
+		assertEquals(1, statements.size(), "Expected a single statement, got " + statements);
+		final String sql = statements.get(0);
+		assertEquals(parameters.length, sql.chars().filter(c -> c == '?').count(), "Parameter count of " + sql);
+
+		final String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, parameters);
+		final List<String> problems = new ArrayList<>();
+		try {
+			collectUnindexedScans(objectMapper.readTree(plan).get(0).get("Plan"), problems);
+		} catch (final Exception e) {
+			throw new IllegalStateException("Could not parse plan: " + plan, e);
+		}
+		assertTrue(problems.isEmpty(), "Query reads " + problems + " without an index: " + sql);
+	}
+
+	/**
+	 * Helper method to walk a JSON plan tree and collect the relations read by a sequential scan
+	 * or by a full index scan that filters rows (one with a Filter but without an Index Cond).
+	 */
+	private void collectUnindexedScans(final JsonNode node, final List<String> problems) {
+		final String nodeType = node.get("Node Type").asText();
+		final boolean sequential = nodeType.equals("Seq Scan");
+		final boolean filteringIndexScan = (nodeType.equals("Index Scan") || nodeType.equals("Index Only Scan"))
+				&& node.has("Filter") && !node.has("Index Cond");
+		if (sequential || (filteringIndexScan && !isSinglePagePartition(node.get("Relation Name").asText()))) {
+			problems.add(nodeType + " on " + node.get("Relation Name").asText());
+		}
+		if (node.has("Plans")) {
+			node.get("Plans").forEach(child -> collectUnindexedScans(child, problems));
+		}
+	}
+
+	private boolean isSinglePagePartition(final String relation) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+				"SELECT relispartition AND relpages <= 1 FROM pg_class WHERE relname = ?", Boolean.class, relation));
+	}
+}
@@ -0,0 +1,33 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.OutboxMessage;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Outbox sink that keeps every delivered event in memory, for tests.
+ * Its checkpoint persists like any other sink's, so tests that relay to it remove it afterwards; a fresh checkpoint
+ * starts at the oldest event still in the outbox.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+	private final List<OutboxMessage> delivered = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String getName() {
+		return "in-memory-test";
+	}
+
+	@Override
+	public void deliver(final List<OutboxMessage> messages) {
+		delivered.addAll(messages);
+	}
+
+	/**
+	 * @return The events delivered so far, in delivery order.
+	 */
+	public List<OutboxMessage> getDelivered() {
+		return List.copyOf(delivered);
+	}
+}
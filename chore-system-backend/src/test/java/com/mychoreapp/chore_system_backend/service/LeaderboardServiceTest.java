@@ -0,0 +1,97 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.LeaderboardEntry;
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.ChoreCompletion;
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.model.User;
+import com.mychoreapp.chore_system_backend.repository.IChoreCompletionRepository;
+import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
+import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
+import com.mychoreapp.chore_system_backend.repository.IUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Period boards, whose completion updates can arrive after a load that already counted the completion.
+ * The fixture is committed, as the board is loaded on its own connection, and removed after each test.
+ */
+@SpringBootTest(properties = {"recurring-chores.materialize-cron=-", "outbox.relay-cron=-"})
+class LeaderboardServiceTest {
+
+	@Autowired
+	private LeaderboardService leaderboardService;
+
+	@Autowired
+	private ITribeRepository tribeRepository;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private IChoreRepository choreRepository;
+
+	@Autowired
+	private IChoreCompletionRepository choreCompletionRepository;
+
+	private Tribe tribe;
+	private User user;
+	private Chore chore;
+	private final List<ChoreCompletion> completions = new ArrayList<>();
+
+	@BeforeEach
+	void createFixture() {
+		final String suffix = UUID.randomUUID().toString().substring(0, 8);
+		tribe = tribeRepository.save(new Tribe("leaderboard-" + suffix));
+		user = new User("leaderboard-" + suffix, "password");
+		user.setTribe(tribe);
+		user = userRepository.save(user);
+		chore = choreRepository.save(new Chore("chore", null, 5, tribe));
+	}
+
+	@AfterEach
+	void removeFixture() {
+		choreCompletionRepository.deleteAll(completions);
+		choreRepository.delete(chore);
+		userRepository.delete(user);
+		tribeRepository.delete(tribe);
+	}
+
+	@Test
+	void completionCountedByTheLoadIsNotAddedAgain() {
+		final ChoreCompletion loaded = complete();
+		assertEquals(5, weeklyPoints()); // Loads the board, which counts the completion
+
+		record(loaded); // Its update arrives after the load
+		assertEquals(5, weeklyPoints());
+
+		record(complete());
+		assertEquals(10, weeklyPoints());
+	}
+
+	private ChoreCompletion complete() {
+		final ChoreCompletion completion = choreCompletionRepository.save(new ChoreCompletion(chore, user, 5));
+		completions.add(completion);
+		return completion;
+	}
+
+	private void record(final ChoreCompletion completion) {
+		leaderboardService.recordCompletionPoints(tribe.getId(), completion.getId(), user, completion.getPointsAwarded(),
+				completion.getCompletionDate());
+	}
+
+	private int weeklyPoints() {
+		final List<LeaderboardEntry> top = leaderboardService.getTopUsers(tribe.getId(), LeaderboardPeriod.WEEKLY, 10);
+		assertEquals(1, top.size());
+		return top.get(0).points();
+	}
+}
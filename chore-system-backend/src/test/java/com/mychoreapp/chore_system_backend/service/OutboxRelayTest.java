@@ -0,0 +1,110 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mychoreapp.chore_system_backend.dto.OutboxMessage;
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.OutboxEventType;
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.model.User;
+import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
+import com.mychoreapp.chore_system_backend.repository.ITribeRepository;
+import com.mychoreapp.chore_system_backend.repository.IUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Writes events through the services and relays them by hand, so they are committed and delivered in a known order.
+ * The data is committed, as the relay only reads committed events; it is removed after the test, with the test sink's
+ * checkpoint, which would otherwise keep delivered events from ever expiring (see OutboxRelay.deleteExpiredEvents).
+ */
+@SpringBootTest(properties = {"outbox.relay-cron=-", "recurring-chores.materialize-cron=-"})
+@Import(InMemoryOutboxSink.class)
+class OutboxRelayTest {
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private InMemoryOutboxSink sink;
+
+	@Autowired
+	private TribeService tribeService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private ChoreService choreService;
+
+	@Autowired
+	private ChoreCompletionService choreCompletionService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ITribeRepository tribeRepository;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private IChoreRepository choreRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Tribe tribe;
+	private User user;
+	private Chore chore;
+
+	@AfterEach
+	void removeData() {
+		if (tribe != null) {
+			jdbcTemplate.update("DELETE FROM outbox_events WHERE tribe_id = ?", tribe.getId());
+			jdbcTemplate.update("DELETE FROM chore_completions WHERE tribe_id = ?", tribe.getId());
+		}
+		jdbcTemplate.update("DELETE FROM outbox_checkpoints WHERE sink = ?", sink.getName());
+		if (chore != null) {
+			choreRepository.deleteById(chore.getId());
+		}
+		if (user != null) {
+			userRepository.deleteById(user.getId());
+		}
+		if (tribe != null) {
+			tribeRepository.deleteById(tribe.getId());
+		}
+	}
+
+	@Test
+	void committedEventsAreDeliveredOnceInCommitOrder() throws Exception {
+		final String suffix = UUID.randomUUID().toString().substring(0, 8);
+		tribe = tribeService.createTribe(new Tribe("outbox-" + suffix));
+		user = userService.registerUser(new User("outbox-" + suffix, "password"));
+		userService.joinTribe(user.getId(), tribe.getJoinCode());
+		chore = choreService.createChore(new Chore("outbox-chore", null, 5, null), tribe.getId());
+		choreCompletionService.recordChoreCompletion(chore.getId(), user.getId());
+
+		outboxRelay.relay();
+		final List<OutboxMessage> delivered = eventsOf(tribe);
+		assertEquals(List.of(OutboxEventType.USER_JOINED_TRIBE, OutboxEventType.CHORE_CREATED, OutboxEventType.CHORE_COMPLETED),
+				delivered.stream().map(OutboxMessage::eventType).toList());
+		assertEquals(chore.getId(), objectMapper.readTree(delivered.get(2).payload()).get("choreId").asLong());
+
+		outboxRelay.relay(); // Nothing new since the checkpoint
+		assertEquals(delivered, eventsOf(tribe));
+	}
+
+	private List<OutboxMessage> eventsOf(final Tribe tribe) {
+		return sink.getDelivered().stream().filter(message -> tribe.getId().equals(message.tribeId())).toList();
+	}
+}
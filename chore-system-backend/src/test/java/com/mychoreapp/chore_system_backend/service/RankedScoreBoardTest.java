@@ -0,0 +1,62 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.LeaderboardEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankedScoreBoardTest {
+
+	@Test
+	void tiedUsersShareRank() {
+		final RankedScoreBoard board = new RankedScoreBoard();
+		board.update(1L, "alice", 10);
+		board.update(2L, "bob", 30);
+		board.update(3L, "carol", 10);
+		board.update(4L, "dave", 5);
+
+		final List<LeaderboardEntry> top = board.top(10);
+		assertEquals(List.of(2L, 1L, 3L, 4L), top.stream().map(LeaderboardEntry::userId).toList());
+		assertEquals(List.of(1, 2, 2, 4), top.stream().map(LeaderboardEntry::rank).toList());
+		assertEquals(2, board.entryFor(3L).orElseThrow().rank());
+	}
+
+	@Test
+	void updatesAndRemovalsMatchFullSort() {
+		final RankedScoreBoard board = new RankedScoreBoard();
+		final Map<Long, Integer> expected = new HashMap<>();
+		final Random random = new Random(42);
+		for (int i = 0; i < 5_000; i++) {
+			final long userId = random.nextInt(500);
+			if (random.nextInt(10) == 0) {
+				board.remove(userId);
+				expected.remove(userId);
+			} else {
+				final int points = random.nextInt(200);
+				board.update(userId, "user" + userId, points);
+				expected.put(userId, points);
+			}
+		}
+
+		final List<Long> sortedIds = expected.entrySet().stream()
+				.sorted(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+						.thenComparing(Map.Entry::getKey))
+				.map(Map.Entry::getKey)
+				.toList();
+		assertEquals(expected.size(), board.size());
+		assertEquals(sortedIds.subList(0, 20), board.top(20).stream().map(LeaderboardEntry::userId).toList());
+		for (final Map.Entry<Long, Integer> entry : expected.entrySet()) {
+			final long above = expected.values().stream().filter(points -> points > entry.getValue()).count();
+			assertEquals(above + 1, board.entryFor(entry.getKey()).orElseThrow().rank());
+		}
+		assertTrue(board.entryFor(10_000L).isEmpty());
+	}
+
+}
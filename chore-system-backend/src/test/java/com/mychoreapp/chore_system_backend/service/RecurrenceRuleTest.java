@@ -0,0 +1,74 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecurrenceRuleTest {
+
+	private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+
+	@Test
+	void shorthandPatternsStepOnePeriod() {
+		assertEquals(LocalDate.of(2025, 1, 7), RecurrenceRule.compile("DAILY").nextAfter(MONDAY, MONDAY));
+		assertEquals(LocalDate.of(2025, 1, 13), RecurrenceRule.compile("weekly").nextAfter(MONDAY, MONDAY));
+		assertEquals(LocalDate.of(2026, 1, 6), RecurrenceRule.compile("YEARLY").nextAfter(MONDAY, MONDAY));
+		// The 31st does not exist in February, so that month is skipped
+		final LocalDate endOfJanuary = LocalDate.of(2025, 1, 31);
+		assertEquals(LocalDate.of(2025, 3, 31), RecurrenceRule.compile("MONTHLY").nextAfter(endOfJanuary, endOfJanuary));
+		assertSame(RecurrenceRule.compile("MONTHLY"), RecurrenceRule.compile("MONTHLY"));
+	}
+
+	@Test
+	void intervalsAndWeekdays() {
+		final RecurrenceRule everyOtherWeek = RecurrenceRule.compile("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH");
+		assertEquals(List.of(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 9), LocalDate.of(2025, 1, 20), LocalDate.of(2025, 1, 23)),
+				everyOtherWeek.occurrencesBetween(MONDAY, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)));
+		assertEquals(LocalDate.of(2025, 3, 3), everyOtherWeek.nextAfter(MONDAY, LocalDate.of(2025, 2, 20)));
+
+		final RecurrenceRule lastFriday = RecurrenceRule.compile("FREQ=MONTHLY;BYDAY=-1FR");
+		assertEquals(List.of(LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 28)),
+				lastFriday.occurrencesBetween(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 31)));
+	}
+
+	@Test
+	void countAndUntilEndTheSeries() {
+		final RecurrenceRule threeDays = RecurrenceRule.compile("FREQ=DAILY;COUNT=3");
+		assertEquals(List.of(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2)), threeDays.occurrencesBetween(MONDAY, MONDAY, MONDAY.plusDays(30)));
+		assertNull(threeDays.nextAfter(MONDAY, MONDAY.plusDays(2)));
+
+		final RecurrenceRule untilTheTwentieth = RecurrenceRule.compile("FREQ=WEEKLY;UNTIL=20250120T000000Z");
+		assertEquals(LocalDate.of(2025, 1, 20), untilTheTwentieth.nextAfter(MONDAY, LocalDate.of(2025, 1, 13)));
+		assertNull(untilTheTwentieth.nextAfter(MONDAY, LocalDate.of(2025, 1, 20)));
+	}
+
+	@Test
+	void nextAfterMatchesOccurrencesBetween() {
+		final LocalDate start = LocalDate.of(2024, 2, 29);
+		final LocalDate end = LocalDate.of(2032, 12, 31);
+		for (final String pattern : List.of("DAILY", "FREQ=DAILY;INTERVAL=3;BYDAY=SA,SU", "FREQ=WEEKLY;INTERVAL=3;BYDAY=TU,SU",
+				"FREQ=MONTHLY;INTERVAL=5", "FREQ=MONTHLY;BYDAY=2WE,-2MO", "FREQ=MONTHLY;BYDAY=FR;COUNT=40", "YEARLY")) {
+			final RecurrenceRule rule = RecurrenceRule.compile(pattern);
+			final List<LocalDate> stepped = new ArrayList<>();
+			for (LocalDate next = start; next != null && !next.isAfter(end); next = rule.nextAfter(start, next)) {
+				stepped.add(next);
+			}
+			assertEquals(stepped, rule.occurrencesBetween(start, start, end), pattern);
+		}
+	}
+
+	@Test
+	void unsupportedPatternsAreRejected() {
+		for (final String pattern : List.of("BI-WEEKLY", "FREQ=HOURLY", "FREQ=WEEKLY;BYDAY=1MO", "FREQ=DAILY;COUNT=2;UNTIL=20250101",
+				"FREQ=WEEKLY;INTERVAL=0", "FREQ=YEARLY;BYDAY=MO", "FREQ=WEEKLY;BYMONTH=1", "INTERVAL=2", " ")) {
+			assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.compile(pattern), pattern);
+		}
+	}
+}
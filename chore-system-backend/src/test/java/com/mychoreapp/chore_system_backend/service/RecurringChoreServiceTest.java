@@ -0,0 +1,129 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import com.mychoreapp.chore_system_backend.dto.ChoreCompletionRequest;
+import com.mychoreapp.chore_system_backend.model.Chore;
+import com.mychoreapp.chore_system_backend.model.Tribe;
+import com.mychoreapp.chore_system_backend.model.User;
+import com.mychoreapp.chore_system_backend.repository.IChoreRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Completes recurring chores and runs the scheduled task by hand, with a batch size of 2 so it advances several batches.
+ * Runs in a transaction that is rolled back after each test.
+ */
+@SpringBootTest(properties = {"recurring-chores.materialize-cron=-", "recurring-chores.batch-size=2", "outbox.relay-cron=-"})
+@Transactional
+class RecurringChoreServiceTest {
+
+	private static final LocalDate TODAY = LocalDate.now();
+
+	@Autowired
+	private RecurringChoreService recurringChoreService;
+
+	@Autowired
+	private ChoreCompletionService choreCompletionService;
+
+	@Autowired
+	private IChoreRepository choreRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Tribe tribe;
+	private User user;
+
+	@BeforeEach
+	void createFixture() {
+		final String suffix = UUID.randomUUID().toString().substring(0, 8);
+		tribe = new Tribe("recurring-" + suffix);
+		entityManager.persist(tribe);
+		user = new User("recurring-" + suffix, "password");
+		user.setTribe(tribe);
+		entityManager.persist(user);
+	}
+
+	@Test
+	void completedChoreIsDeactivatedAndCannotBeCompletedAgain() {
+		final Chore chore = recurringChore("completed", TODAY);
+
+		choreCompletionService.recordChoreCompletion(chore.getId(), user.getId());
+		entityManager.clear();
+		final Chore completed = entityManager.find(Chore.class, chore.getId());
+		assertFalse(completed.isActive());
+		assertTrue(completed.isNextInstancePending());
+
+		assertThrows(IllegalArgumentException.class, () -> choreCompletionService.recordChoreCompletion(chore.getId(), user.getId()));
+	}
+
+	@Test
+	void advanceQueryFindsCompletedAndOverdueChores() {
+		final Chore completed = recurringChore("completed", TODAY);
+		final Chore overdue = recurringChore("overdue", TODAY.minusDays(3));
+		recurringChore("due-today", TODAY);
+		recurringChore("due-later", TODAY.plusDays(1));
+		choreCompletionService.recordChoreCompletion(completed.getId(), user.getId());
+		entityManager.clear();
+
+		final List<Long> found = choreRepository.findRecurringChoresToAdvance(completed.getId() - 1, TODAY, PageRequest.of(0, 10))
+				.stream().map(Chore::getId).toList();
+		assertEquals(List.of(completed.getId(), overdue.getId()), found);
+	}
+
+	@Test
+	void everyBatchIsAdvanced() {
+		final Chore first = recurringChore("first", TODAY);
+		final Chore second = recurringChore("second", TODAY);
+		final Chore overdue = recurringChore("overdue", TODAY.minusDays(3));
+		choreCompletionService.recordChoreCompletions(List.of(
+				new ChoreCompletionRequest(first.getId(), user.getId(), null),
+				new ChoreCompletionRequest(second.getId(), user.getId(), null)));
+		entityManager.clear();
+
+		recurringChoreService.materializeNextInstances();
+		entityManager.flush(); // Each batch joins the test's transaction, so it is not committed
+		entityManager.clear();
+
+		for (final Chore chore : List.of(first, second, overdue)) {
+			final Chore advanced = entityManager.find(Chore.class, chore.getId());
+			assertFalse(advanced.isActive());
+			assertFalse(advanced.isNextInstancePending());
+		}
+		assertEquals(List.of(TODAY.plusDays(1), TODAY.plusDays(1), TODAY), activeDueDates());
+
+		recurringChoreService.materializeNextInstances(); // The new instances are not ready to advance
+		assertEquals(List.of(TODAY.plusDays(1), TODAY.plusDays(1), TODAY), activeDueDates());
+	}
+
+	private Chore recurringChore(final String name, final LocalDate dueDate) {
+		final Chore chore = new Chore(name, null, 5, true, "DAILY", tribe);
+		chore.setDueDate(dueDate);
+		chore.setRecurrenceStart(dueDate);
+		entityManager.persist(chore);
+		entityManager.flush();
+		return chore;
+	}
+
+	/**
+	 * Helper method to return the due dates of the tribe's active chores, in ID order.
+	 */
+	private List<LocalDate> activeDueDates() {
+		return entityManager.createQuery("SELECT c.dueDate FROM Chore c WHERE c.tribe = :tribe AND c.isActive = true ORDER BY c.id", LocalDate.class)
+				.setParameter("tribe", tribe)
+				.getResultList();
+	}
+}
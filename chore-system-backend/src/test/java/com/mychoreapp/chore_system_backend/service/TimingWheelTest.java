@@ -0,0 +1,61 @@
+package com.mychoreapp.chore_system_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+	@Test
+	void payloadsExpireAtTheirTick() {
+		final TimingWheel<String> wheel = new TimingWheel<>(2, 2, 100); // 4 slots per level, spans 16 ticks
+		wheel.schedule(1, 101, "next tick");
+		wheel.schedule(2, 107, "level 1");
+		wheel.schedule(3, 150, "beyond the top level");
+		wheel.schedule(4, 50, "already passed");
+		wheel.schedule(5, 120, "cancelled");
+		wheel.cancel(5);
+
+		assertEquals(List.of("next tick", "already passed"), wheel.advanceTo(101));
+		assertEquals(List.of(), wheel.advanceTo(106));
+		assertEquals(List.of("level 1"), wheel.advanceTo(107));
+		assertEquals(List.of(), wheel.advanceTo(149));
+		assertEquals(List.of("beyond the top level"), wheel.advanceTo(150));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void randomSchedulesMatchBruteForce() {
+		final TimingWheel<Long> wheel = new TimingWheel<>(3, 3, 0); // Spans 512 ticks
+		final Map<Long, Long> expected = new HashMap<>(); // key -> tick
+		final Random random = new Random(42);
+		long tick = 0;
+		for (int step = 0; step < 2_000; step++) {
+			final long key = random.nextInt(300);
+			if (random.nextInt(5) == 0) {
+				wheel.cancel(key);
+				expected.remove(key);
+			} else {
+				final long due = tick + 1 + random.nextInt(random.nextBoolean() ? 20 : 2_000);
+				wheel.schedule(key, due, key);
+				expected.put(key, due);
+			}
+			final long until = tick + random.nextInt(10);
+			for (long next = tick + 1; next <= until; next++) {
+				for (final Long expiredKey : wheel.advanceTo(next)) {
+					assertEquals(next, expected.remove(expiredKey), "Tick of key " + expiredKey);
+				}
+			}
+			tick = Math.max(tick, until);
+			final long now = tick;
+			assertTrue(expected.values().stream().allMatch(due -> due > now), "Every due payload has fired");
+			assertEquals(expected.size(), wheel.size());
+		}
+	}
+}
@@ -1,5 +1,6 @@
 // script.js
 const API_BASE_URL = 'http://localhost:8080/api'; // Your Spring Boot backend URL
+const LEADERBOARD_LIMIT = 25; // Rows shown on leaderboard.html
 
 // --- Navigation ---
 function navigateTo(page) {
@@ -209,6 +210,12 @@ async function loadLeaderboardPageData() {
 
             if (response.ok) {
                 currentUserPointsElement.textContent = data.points;
+                if (data.tribe) {
+                    const entries = await loadTribeLeaderboard(data.tribe.id, data.id);
+                    followTribeActivity(data.tribe.id, data.id, entries);
+                } else {
+                    document.getElementById('leaderboardEmpty').classList.remove('hidden');
+                }
             } else {
                 currentUserPointsElement.textContent = 'N/A';
                 console.error('Error fetching user points for leaderboard:', data.message || response.statusText);
@@ -222,6 +229,71 @@ async function loadLeaderboardPageData() {
     }
 }
 
+// Fetches the top users of a tribe and renders them into the leaderboard table; returns the entries
+async function loadTribeLeaderboard(tribeId, currentUserId) {
+    try {
+        const response = await fetch(`${API_BASE_URL}/leaderboard/tribe/${tribeId}?limit=${LEADERBOARD_LIMIT}`);
+        if (!response.ok) {
+            console.error('Error fetching tribe leaderboard:', response.statusText);
+            return [];
+        }
+        const entries = await response.json();
+        renderLeaderboard(entries, currentUserId);
+        return entries;
+    } catch (error) {
+        console.error('Network error fetching tribe leaderboard:', error);
+        return [];
+    }
+}
+
+// Keeps the leaderboard and the user's points up to date from the tribe's live activity stream, instead of polling.
+// Each completion event carries the completing user's new points total; the table is re-ranked locally.
+function followTribeActivity(tribeId, currentUserId, entries) {
+    const source = new EventSource(`${API_BASE_URL}/leaderboard/tribe/${tribeId}/stream`);
+    let opened = false;
+    source.onopen = async () => {
+        if (opened) { // Reconnected (e.g. after falling behind): events may have been missed, so reload once
+            entries = await loadTribeLeaderboard(tribeId, currentUserId);
+        }
+        opened = true;
+    };
+    source.addEventListener('completion', event => {
+        const completion = JSON.parse(event.data);
+        if (completion.userId === currentUserId) {
+            document.getElementById('currentUserPoints').textContent = completion.userPoints;
+        }
+        const entry = entries.find(e => e.userId === completion.userId);
+        if (entry) {
+            entry.points = completion.userPoints;
+        } else {
+            entries.push({ userId: completion.userId, displayName: completion.displayName, points: completion.userPoints });
+        }
+        entries.sort((a, b) => b.points - a.points);
+        entries.forEach((e, index) => { // Equal points share a rank, as on the server
+            e.rank = index > 0 && e.points === entries[index - 1].points ? entries[index - 1].rank : index + 1;
+        });
+        entries = entries.slice(0, LEADERBOARD_LIMIT);
+        renderLeaderboard(entries, currentUserId);
+    });
+}
+
+// Renders leaderboard entries into the leaderboard table, highlighting the logged in user
+function renderLeaderboard(entries, currentUserId) {
+    const tableBody = document.getElementById('leaderboardBody');
+    tableBody.innerHTML = '';
+    entries.forEach(entry => {
+        const row = document.createElement('tr');
+        row.className = entry.userId === currentUserId ? 'font-semibold text-blue-800' : 'text-gray-700';
+        [entry.rank, entry.displayName, entry.points].forEach((value, index) => {
+            const cell = document.createElement('td');
+            cell.className = index === 2 ? 'py-1 text-right' : 'py-1';
+            cell.textContent = value;
+            row.appendChild(cell);
+        });
+        tableBody.appendChild(row);
+    });
+}
+
 // --- Initial Setup / Default Values ---
 document.addEventListener('DOMContentLoaded', () => {
     // Set default values for convenience on relevant pages